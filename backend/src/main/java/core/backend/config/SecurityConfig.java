@@ -54,9 +54,11 @@ public class SecurityConfig {
                         .requestMatchers("/profile-images/**").permitAll() //리뷰 혹은 프로필 사진 인증 없이 접근 가능
                         .requestMatchers("/images/**").permitAll() //배지 사진 인증 없이 접근 가능
                         .requestMatchers("/api/auth/**").permitAll() //로그인, 회원가입은 인증 없이 접근 가능
+                        //관리자만(음식 파일 업로드/가져오기 작업은 기존 음식을 덮어쓰거나 파일 내용을 보여주므로 /api/food/** 보다 먼저 검사)
+                        .requestMatchers("/api/food/upload").hasRole("ADMIN")
+                        .requestMatchers("/api/food/import/**").hasRole("ADMIN") // 가져오기 작업 조회/재시작/오류 보고서
                         .requestMatchers("/api/food/**").permitAll() //음식 리스트, 상세 조회, 검색
                         .requestMatchers("/api/foods/{foodId}").permitAll()
-                        .requestMatchers("/api/food/upload").permitAll() // 파일 업로드는 인증 없이 접근 가능
                         .requestMatchers("/reviews/users/**").permitAll() //리뷰 조회는 로그인 없이 가능
                         .requestMatchers("/reviews/food/*").permitAll() // 특정 음식 리뷰 조회
 //                        .requestMatchers("/login-success", "/login-success/*").permitAll() // 구글 로그인 리다이렉트
@@ -69,6 +71,7 @@ public class SecurityConfig {
                         .requestMatchers("/users/likes/**").authenticated() // 좋아요 목록 조회 로그인 필요
                         .requestMatchers("/users/badge/**").authenticated() // 뱃지 조회 로그인 필요
                         .requestMatchers("/api/protected-endpoint").authenticated()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // 관리자 기능(데이터 내보내기)
                         .anyRequest().authenticated() // 그 외 모든 요청은 인증 필요
 
                 )
@@ -0,0 +1,45 @@
+package core.backend.controller;
+
+import core.backend.exporter.CatalogExportService;
+import core.backend.exporter.ExportDataset;
+import core.backend.exporter.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+//관리자용 전체 데이터 내보내기(ADMIN 권한 필요)
+@RestController
+@RequestMapping("/api/admin/export")
+public class AdminExportController {
+
+    private final CatalogExportService catalogExportService;
+    private final long exportTimeout;
+
+    public AdminExportController(CatalogExportService catalogExportService,
+                                 @Value("${food.export.timeout:1800000}") long exportTimeout) {
+        this.catalogExportService = catalogExportService;
+        this.exportTimeout = exportTimeout;
+    }
+
+    //음식/후기/좋아요 전체 내보내기(dataset: foods, reviews, hearts / format: csv(기본), ndjson)
+    //행을 읽는 대로 응답에 쓰므로 요청 스레드를 잡아 두지 않고, 서버 메모리에 전체를 모으지 않음
+    //큰 내보내기가 전역 비동기 제한 시간(기본 30초)에 끊기지 않도록 이 응답만 따로 제한 시간을 둠
+    @GetMapping("/{dataset}")
+    public WebAsyncTask<Void> export(
+            @PathVariable("dataset") String dataset,
+            @RequestParam(name = "format", required = false) String format,
+            HttpServletResponse response) {
+        ExportDataset exportDataset = ExportDataset.from(dataset);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + exportDataset.getValue() + "." + exportFormat.getValue() + "\"");
+        //StreamingResponseBody는 응답별 제한 시간을 줄 수 없어서(전역 값만 적용) WebAsyncTask로 응답 스트림에 직접 씀
+        return new WebAsyncTask<>(exportTimeout, () -> {
+            catalogExportService.export(exportDataset, exportFormat, response.getOutputStream());
+            return null;
+        });
+    }
+}
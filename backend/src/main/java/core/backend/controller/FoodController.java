@@ -1,13 +1,27 @@
 package core.backend.controller;
 
 import core.backend.domain.Food;
-import core.backend.dto.FoodDetailDto;
+import core.backend.domain.FoodImportMode;
+import core.backend.dto.CursorPageDto;
+import core.backend.dto.FoodCardDto;
+import core.backend.dto.FoodDto;
+import core.backend.dto.FoodFacetsDto;
+import core.backend.dto.FoodImportJobDto;
+import core.backend.dto.FoodSuggestionDto;
+import core.backend.dto.review.ReviewDto;
+import core.backend.importer.FoodImportService;
+import core.backend.service.ContentVersions;
+import core.backend.service.FoodDetailCache;
 import core.backend.service.FoodService;
+import core.backend.service.JsonResponseCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -17,34 +31,118 @@ import java.util.Map;
 public class FoodController {
 
     private final FoodService foodService;
+    private final FoodDetailCache foodDetailCache;
+    private final ContentVersions contentVersions;
+    private final JsonResponseCache jsonResponseCache;
+    private final FoodImportService foodImportService;
 
-    //음식 csv 파일 업로드, db저장
+    //음식 csv/xlsx 파일 업로드(파일만 저장하고 202 응답, db저장은 백그라운드 작업, 진행 상황은 /api/food/import/{jobId})
+    //mode=insert(기본, 새 음식만 추가) 또는 upsert(이미 있는 음식은 바뀐 내용만 수정)
     @PostMapping("/upload")
-    public ResponseEntity<String> uploadCsvFile(@RequestParam("file")MultipartFile file) {
-        foodService.saveFoodsFromCsv(file);
-        return ResponseEntity.ok("CSV 데이터가 성공적으로 저장되었습니다.");
+    public ResponseEntity<FoodImportJobDto> uploadCsvFile(@RequestParam("file")MultipartFile file,
+                                                          @RequestParam(name = "mode", required = false) String mode) {
+        FoodImportJobDto job = foodImportService.submit(file, FoodImportMode.from(mode));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/food/import/" + job.getJobId()))
+                .body(job);
     }
 
-    //전체 음식 리스트 조회(카테고리별 필터링, 정렬)
+    //전체 음식 리스트 조회(카테고리별 필터링, 스코빌 범위, 정렬(new/popular/scoville), 커서 페이지네이션, ETag 조건부 조회)
+    //응답 타입: CursorPageDto<FoodCardDto>(같은 버전이면 직렬화해 둔 JSON 바이트를 그대로 응답)
     @GetMapping
-    public ResponseEntity<List<Food>> getFoods(
+    public ResponseEntity<byte[]> getFoods(
         @RequestParam(name = "category", required = false) String category,
-        @RequestParam(name = "sort", required = false, defaultValue = "new") String sort){
+        @RequestParam(name = "sort", required = false, defaultValue = "new") String sort,
+        @RequestParam(name = "minScoville", required = false) Integer minScoville,
+        @RequestParam(name = "maxScoville", required = false) Integer maxScoville,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size,
+        WebRequest webRequest){
 
-        List<Food> foods = foodService.getFoods(category, sort);
-        return ResponseEntity.ok(foods);
+        //카탈로그 버전이 같으면 조회, 직렬화 없이 304
+        String eTag = contentVersions.catalogETag(contentVersions.catalog());
+        ResponseEntity<byte[]> notModified = jsonResponseCache.notModified(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH), eTag);
+        if (notModified != null) {
+            return notModified;
+        }
+        String key = "foods:" + category + ":" + sort + ":" + minScoville + ":" + maxScoville + ":" + cursor + ":" + size;
+        return jsonResponseCache.respond(key, eTag, acceptsGzip(webRequest),
+                () -> foodService.getFoods(category, sort, minScoville, maxScoville, cursor, size));
     }
 
-    //음식 검색(이름, 카테고리)
+    //음식 검색(이름, 영어 이름, 카테고리, 설명), 관련도 순(sort=new/popular 가능), 커서 페이지네이션
     @GetMapping("/search")
-    public ResponseEntity<List<Food>> searchFoods(@RequestParam(name = "query") String query){
-        List<Food> searchResults = foodService.searchFoods(query);
-        return ResponseEntity.ok(searchResults);
+    public ResponseEntity<CursorPageDto<FoodCardDto>> searchFoods(
+        @RequestParam(name = "query") String query,
+        @RequestParam(name = "sort", required = false, defaultValue = "relevance") String sort,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size){
+        return ResponseEntity.ok(foodService.searchFoods(query, sort, cursor, size));
     }
 
-    //음식 상세 조회(매운맛 비교 포함)
+    //여러 음식 카드 한 번에 조회(ids=1,2,3, 요청한 순서대로, 최대 100개)
+    @GetMapping("/batch")
+    public ResponseEntity<List<FoodCardDto>> getFoodsByIds(@RequestParam(name = "ids") List<Long> ids){
+        return ResponseEntity.ok(foodService.getFoodsByIds(ids));
+    }
+
+    //비슷한 음식 추천(좋아요를 같이 누른 회원, 같은 카테고리, 비슷한 스코빌 기준)
+    @GetMapping("/{foodId}/similar")
+    public ResponseEntity<List<FoodCardDto>> getSimilarFoods(
+        @PathVariable("foodId") Long foodId,
+        @RequestParam(name = "limit", required = false, defaultValue = "10") int limit){
+        return ResponseEntity.ok(foodService.getSimilarFoods(foodId, limit));
+    }
+
+    //음식 목록 필터 집계(카테고리 탭, 스코빌/좋아요 수 구간별 음식 수)
+    @GetMapping("/facets")
+    public ResponseEntity<FoodFacetsDto> getFacets(){
+        return ResponseEntity.ok(foodService.getFacets());
+    }
+
+    //음식 이름 자동완성(한글/영어 이름 접두사, 좋아요 순)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<FoodSuggestionDto>> suggestFoods(
+        @RequestParam(name = "prefix") String prefix,
+        @RequestParam(name = "limit", required = false, defaultValue = "10") int limit){
+        return ResponseEntity.ok(foodService.suggestFoods(prefix, limit));
+    }
+
+    //인기 음식 조회(좋아요 순, 카테고리별)
+    @GetMapping("/popular")
+    public ResponseEntity<List<FoodDto>> getPopularFoods(
+        @RequestParam(name = "limit", required = false, defaultValue = "10") int limit,
+        @RequestParam(name = "category", required = false) String category){
+        return ResponseEntity.ok(foodService.getPopularFoods(limit, category));
+    }
+
+    //음식 상세 조회(매운맛 비교 포함, 짧은 TTL 캐시 + 동시 요청 합치기, ETag 조건부 조회)
+    //응답 타입: FoodDetailDto(같은 버전이면 직렬화해 둔 JSON 바이트를 그대로 응답)
     @GetMapping("/detail/{foodId}")
-    public ResponseEntity<FoodDetailDto> getFoodDetail(@PathVariable("foodId") Long foodId){
-        return ResponseEntity.ok(foodService.getFoodDetail(foodId));
+    public ResponseEntity<byte[]> getFoodDetail(@PathVariable("foodId") Long foodId, WebRequest webRequest){
+        //음식 버전(음식, 리뷰, 좋아요 변경 시 증가)이 같으면 조회, 직렬화 없이 304
+        ResponseEntity<byte[]> notModified = jsonResponseCache.notModified(webRequest.getHeader(HttpHeaders.IF_NONE_MATCH),
+                contentVersions.foodETag(foodId, contentVersions.food(foodId)), () -> foodService.existsFood(foodId));
+        if (notModified != null) {
+            return notModified;
+        }
+        //ETag는 실제 본문을 만든 시점의 버전으로 내려감
+        FoodDetailCache.Entry entry = foodDetailCache.get(foodId);
+        return jsonResponseCache.respond("detail:" + foodId, contentVersions.foodETag(foodId, entry.version()),
+                acceptsGzip(webRequest), entry::detail);
+    }
+
+    //음식 리뷰 페이지 조회(최신순, 상세 조회의 nextReviewCursor로 이어서 조회)
+    @GetMapping("/detail/{foodId}/reviews")
+    public ResponseEntity<CursorPageDto<ReviewDto>> getFoodReviews(
+        @PathVariable("foodId") Long foodId,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", required = false, defaultValue = "20") int size){
+        return ResponseEntity.ok(foodService.getFoodReviews(foodId, cursor, size));
+    }
+
+    private static boolean acceptsGzip(WebRequest webRequest){
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
     }
 }
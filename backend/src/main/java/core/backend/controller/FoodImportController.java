@@ -0,0 +1,53 @@
+package core.backend.controller;
+
+import core.backend.dto.FoodImportJobDto;
+import core.backend.importer.FoodImportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.nio.charset.StandardCharsets;
+
+//음식 파일 가져오기 작업 조회(업로드는 POST /api/food/upload)
+@RestController
+@RequestMapping("/api/food/import")
+public class FoodImportController {
+
+    private final FoodImportService foodImportService;
+    private final long reportTimeout;
+
+    public FoodImportController(FoodImportService foodImportService,
+                                @Value("${food.import.report-timeout:1800000}") long reportTimeout) {
+        this.foodImportService = foodImportService;
+        this.reportTimeout = reportTimeout;
+    }
+
+    //작업 상태/진행 상황 조회
+    @GetMapping("/{jobId}")
+    public ResponseEntity<FoodImportJobDto> getJob(@PathVariable("jobId") Long jobId) {
+        return ResponseEntity.ok(foodImportService.getJob(jobId));
+    }
+
+    //실패한 작업 이어서 처리(체크포인트 다음 행부터)
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<FoodImportJobDto> resume(@PathVariable("jobId") Long jobId) {
+        return ResponseEntity.accepted().body(foodImportService.resume(jobId));
+    }
+
+    //건너뛴 행 보고서 다운로드(CSV), 오류 행이 많아도 끊기지 않도록 이 응답만 따로 제한 시간을 둠
+    @GetMapping("/{jobId}/errors")
+    public WebAsyncTask<Void> downloadErrors(@PathVariable("jobId") Long jobId, HttpServletResponse response) {
+        foodImportService.getJob(jobId); // 응답을 쓰기 시작하기 전에 작업 없음(404) 확인
+        response.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"food-import-" + jobId + "-errors.csv\"");
+        //StreamingResponseBody는 응답별 제한 시간을 줄 수 없어서(전역 값만 적용) WebAsyncTask로 응답 스트림에 직접 씀
+        return new WebAsyncTask<>(reportTimeout, () -> {
+            foodImportService.writeErrorReport(jobId, response.getOutputStream());
+            return null;
+        });
+    }
+}
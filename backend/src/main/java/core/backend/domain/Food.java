@@ -15,8 +15,13 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @ToString
-@JsonIgnoreProperties({"hibernateLAzyInitializer", "handler", "reviews"}) // hibernate프록시 무시
+@JsonIgnoreProperties({"hibernateLAzyInitializer", "handler", "reviews", "hearts"}) // hibernate프록시 무시(좋아요는 heartCount로 대신 내려줌)
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")//ID기반 직렬화
+@Table(indexes = { // 키셋 페이지네이션 정렬 순서와 같은 복합 인덱스
+        @Index(name = "idx_food_heart_count_id", columnList = "heart_count, food_id"),
+        @Index(name = "idx_food_category_heart_count_id", columnList = "category, heart_count, food_id"),
+        @Index(name = "idx_food_category_id", columnList = "category, food_id")
+})
 public class Food {
 
     @Id
@@ -30,8 +35,12 @@ public class Food {
     @Column(nullable = false, unique = true)
     private String englishName; // 영어 이름
 
+    //긴 설명은 상세 조회에서만 필요하므로 지연 로딩(바이트코드 향상 필요, build.gradle의 hibernate 설정)
+    //엔티티를 조회해도 description 컬럼은 읽지 않고, getDescription() 호출 시 별도 쿼리로 읽음
     @Lob // 필드 타입 String일 시 CLOB으로 매핑
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "LONGTEXT")
+    @ToString.Exclude
     private String description;
 
     @Min(0)
@@ -44,6 +53,23 @@ public class Food {
     @Column(nullable = false)
     private String imgUrl;
 
+    //좋아요 개수(hearts 컬렉션 대신 사용, HeartService에서 SQL로 원자적 증감하므로 엔티티 변경 감지로는 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer heartCount = 0;
+
+    //설명의 SHA-256(upsert 비교에서 긴 설명을 읽지 않기 위함, 나머지 컬럼은 값을 그대로 비교)
+    //DB 생성 컬럼이라 어느 경로로 설명을 바꿔도 항상 현재 설명과 맞음(앱에서는 쓰지 않음)
+    @Column(columnDefinition = "CHAR(64) AS (SHA2(COALESCE(description, ''), 256)) PERSISTENT",
+            insertable = false, updatable = false)
+    @ToString.Exclude
+    private String descriptionDigest;
+
+    //후기 매운맛 집계(후기 목록을 읽지 않고 평균/분포 계산)
+    @Embedded
+    @Builder.Default
+    private SpicyStats spicyStats = new SpicyStats();
+
     @JsonManagedReference // 무한 루프 방지
     @OneToMany(mappedBy = "food", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -53,10 +79,4 @@ public class Food {
     @OneToMany(mappedBy = "food", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private final List<Heart> hearts = new ArrayList<>(); // 좋아요 개수 정보
-    
-
-    //좋아요 개수를 반환
-    public int getHeartCount(){
-        return hearts != null ? hearts.size() : 0;
-    }
 }
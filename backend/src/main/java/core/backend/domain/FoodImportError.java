@@ -0,0 +1,33 @@
+package core.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+//가져오기에서 건너뛴 행(잘못된 값, 중복), 작업별 오류 보고서(CSV)로 내려줌
+//묶음 저장과 같은 트랜잭션에서 JDBC 배치로 추가하고, 작업 id + 행 번호 순으로 읽음
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(indexes = {
+        @Index(name = "idx_food_import_error_job_row", columnList = "food_import_job_id, source_row")
+})
+public class FoodImportError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "food_import_error_id")
+    private Long id;
+
+    @Column(name = "food_import_job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private Long sourceRow; // 파일 행 번호(헤더 = 1)
+
+    private String name; // 음식 이름(읽을 수 있었던 경우)
+
+    @Column(nullable = false, length = 500)
+    private String reason;
+}
@@ -0,0 +1,76 @@
+package core.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+//음식 파일 가져오기 작업(업로드 파일 위치, 상태, 묶음 단위 체크포인트)
+//진행 상황 컬럼은 FoodImportJobStore가 묶음 저장과 같은 트랜잭션에서 SQL로 갱신하므로 엔티티 변경 감지로는 덮어쓰지 않음
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FoodImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "food_import_job_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String filename; // 업로드한 파일 이름
+
+    @Column(nullable = false)
+    private String storedPath; // 서버에 저장해 둔 업로드 파일(완료되면 삭제)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private FoodImportStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, columnDefinition = "VARCHAR(20) DEFAULT 'INSERT'")
+    @Builder.Default
+    private FoodImportMode mode = FoodImportMode.INSERT;
+
+    //마지막으로 커밋된 묶음의 파일 행 번호(이어서 처리할 때 이 행까지는 건너뜀)
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long checkpointRow = 0L;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long totalRows = 0L;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long inserted = 0L;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long updated = 0L; // upsert: 내용이 바뀌어 수정한 음식
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long unchanged = 0L; // upsert: 내용이 같아 건너뛴 음식
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long duplicates = 0L;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long invalid = 0L;
+
+    @Column(updatable = false, length = 1000)
+    private String errorMessage; // 실패 사유
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createDate;
+
+    @Column(updatable = false)
+    private LocalDateTime updateDate; // 마지막 체크포인트/상태 변경 시각
+}
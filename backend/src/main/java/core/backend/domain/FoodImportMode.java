@@ -0,0 +1,23 @@
+package core.backend.domain;
+
+import core.backend.exception.CustomException;
+import core.backend.exception.ErrorCode;
+
+//음식 파일 가져오기 방식
+public enum FoodImportMode {
+    INSERT, // 새 음식만 추가(이름이 이미 있으면 건너뜀)
+    UPSERT; // 새 음식은 추가하고, 이미 있는 음식은 내용이 바뀐 경우에만 수정
+
+    //요청 파라미터(insert/upsert, 대소문자 무관) 변환, 없으면 INSERT
+    public static FoodImportMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return INSERT;
+        }
+        for (FoodImportMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value.strip())) {
+                return mode;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
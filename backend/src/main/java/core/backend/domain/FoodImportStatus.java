@@ -0,0 +1,9 @@
+package core.backend.domain;
+
+//음식 파일 가져오기 작업 상태
+public enum FoodImportStatus {
+    PENDING,   // 대기(업로드 직후, 서버 재시작 후 이어서 처리할 작업 포함)
+    RUNNING,   // 처리 중
+    COMPLETED, // 완료
+    FAILED     // 실패(체크포인트까지 저장된 행은 남고, 다시 시작하면 그 다음 행부터 처리)
+}
@@ -16,6 +16,9 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Builder
 @JsonIgnoreProperties({"hibernateLAzyInitializer", "handler"}) // hibernate프록시 무시
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+@Table(indexes = { // 음식별 리뷰 키셋 페이지네이션(최신순) 정렬 순서와 같은 복합 인덱스
+        @Index(name = "idx_review_food_create_date_id", columnList = "food_id, create_date, review_id")
+})
 public class Review {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name="review_id")
@@ -0,0 +1,61 @@
+package core.backend.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+//음식별 후기 매운맛 집계(개수, 합계, 1~5단계 분포)
+//ReviewService에서 SQL로 원자적 증감하므로 엔티티 변경 감지로는 덮어쓰지 않음(updatable = false)
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class SpicyStats {
+
+    public static final int MIN_LEVEL = 1;
+    public static final int MAX_LEVEL = 5;
+
+    @Column(name = "spicy_review_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Column(name = "spicy_level_sum", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer levelSum = 0;
+
+    @Column(name = "spicy_level1_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer level1Count = 0;
+
+    @Column(name = "spicy_level2_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer level2Count = 0;
+
+    @Column(name = "spicy_level3_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer level3Count = 0;
+
+    @Column(name = "spicy_level4_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer level4Count = 0;
+
+    @Column(name = "spicy_level5_count", nullable = false, updatable = false, columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer level5Count = 0;
+
+    //평균 매운맛(후기가 없으면 0)
+    public double average() {
+        return reviewCount == 0 ? 0 : (double) levelSum / reviewCount;
+    }
+
+    //1~5단계별 후기 수
+    public int[] histogram() {
+        return new int[]{level1Count, level2Count, level3Count, level4Count, level5Count};
+    }
+}
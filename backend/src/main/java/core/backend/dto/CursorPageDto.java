@@ -0,0 +1,15 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//커서 기반 페이지 응답(nextCursor가 null이면 마지막 페이지)
+@Getter
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
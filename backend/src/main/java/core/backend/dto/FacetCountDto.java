@@ -0,0 +1,12 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//값별 음식 수(카테고리 탭 등)
+@Getter
+@AllArgsConstructor
+public class FacetCountDto {
+    private final String value;
+    private final int count;
+}
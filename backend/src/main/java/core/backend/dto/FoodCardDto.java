@@ -0,0 +1,24 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+//음식 목록/검색 카드용 DTO(카탈로그 스냅샷에서 여러 요청이 공유하므로 불변)
+//FoodRepository에서 JPQL 생성자 표현식으로 바로 만들어서 엔티티, 지연 로딩, description(LONGTEXT)을 거치지 않음
+@Getter
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class FoodCardDto {
+    private final Long id;
+    private final String name;
+    private final String englishName;
+    private final Integer scoville;
+    private final String category;
+    private final String imgUrl;
+    private final Integer heartCount;
+
+    public FoodCardDto withHeartCount(int heartCount) {
+        return toBuilder().heartCount(heartCount).build();
+    }
+}
@@ -16,8 +16,10 @@ public class FoodDetailDto {
     private String name;
     private String description;
     private String spicyLevelText; //사용자 후기 기반 매운맛
-    private String spicinessComparison; //타바스코 소스 비교
-    private List<ReviewDto> reviews; //리뷰 리스트
+    private String spicinessComparison; //매운맛 기준표(소스, 고추) 비교
+    private List<ReviewDto> reviews; //리뷰 첫 페이지(최신순)
     private List<FoodDto> popularFoods; //가장 인기 있는 음식 리스트
     private Integer heartSize;
+    private SpicyStatsDto spicyStats; //후기 매운맛 평균, 후기 수, 1~5단계 분포
+    private String nextReviewCursor; //다음 리뷰 페이지 커서(/api/food/detail/{foodId}/reviews, 없으면 null)
 }
@@ -14,12 +14,14 @@ public class FoodDto {
     private Long foodId;
     private String foodName;
     private String imgUrl;
+    private Integer heartSize;
 
     public static FoodDto fromEntity(Food food) {
         return FoodDto.builder()
                 .foodId(food.getId())
                 .foodName(food.getName())
                 .imgUrl(food.getImgUrl())
+                .heartSize(food.getHeartCount())
                 .build();
     }
 }
@@ -0,0 +1,16 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//음식 목록 필터용 집계(카테고리별, 스코빌 구간별, 좋아요 수 구간별 음식 수)
+@Getter
+@AllArgsConstructor
+public class FoodFacetsDto {
+    private final int total;
+    private final List<FacetCountDto> categories; //음식 수 내림차순
+    private final List<RangeFacetDto> scovilleBuckets; //minScoville/maxScoville 필터에 그대로 사용 가능
+    private final List<RangeFacetDto> heartBuckets;
+}
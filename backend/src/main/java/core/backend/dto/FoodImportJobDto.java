@@ -0,0 +1,35 @@
+package core.backend.dto;
+
+import core.backend.domain.FoodImportJob;
+import core.backend.domain.FoodImportMode;
+import core.backend.domain.FoodImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//음식 파일 가져오기 작업 상태(처리한 행 수, 추가, 수정, 변경 없음, 중복, 잘못된 행, 마지막 체크포인트)
+@Getter
+@AllArgsConstructor
+public class FoodImportJobDto {
+    private final Long jobId;
+    private final String filename;
+    private final FoodImportMode mode;
+    private final FoodImportStatus status;
+    private final long totalRows;
+    private final long inserted;
+    private final long updated;
+    private final long unchanged;
+    private final long duplicates;
+    private final long invalid;
+    private final long checkpointRow;
+    private final String errorMessage;
+    private final LocalDateTime createDate;
+    private final LocalDateTime updateDate;
+
+    public static FoodImportJobDto fromEntity(FoodImportJob job) {
+        return new FoodImportJobDto(job.getId(), job.getFilename(), job.getMode(), job.getStatus(),
+                job.getTotalRows(), job.getInserted(), job.getUpdated(), job.getUnchanged(), job.getDuplicates(),
+                job.getInvalid(), job.getCheckpointRow(), job.getErrorMessage(), job.getCreateDate(), job.getUpdateDate());
+    }
+}
@@ -0,0 +1,14 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//자동완성 결과(한글/영어 이름, 좋아요 수)
+@Getter
+@AllArgsConstructor
+public class FoodSuggestionDto {
+    private final Long foodId;
+    private final String name;
+    private final String englishName;
+    private final Integer heartCount;
+}
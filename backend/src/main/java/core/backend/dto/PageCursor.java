@@ -0,0 +1,33 @@
+package core.backend.dto;
+
+import core.backend.exception.CustomException;
+import core.backend.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+//키셋 페이지네이션 커서(정렬 기준, 정렬 키, id)
+//클라이언트에는 base64url 문자열로만 내려가므로 형식을 바꿔도 API는 그대로 유지됨
+public record PageCursor(String sort, long key, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = sort + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //커서 해석(다른 정렬에서 만든 커서나 잘못된 값이면 400)
+    public static PageCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
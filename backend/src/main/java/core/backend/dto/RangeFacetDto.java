@@ -0,0 +1,13 @@
+package core.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//구간별 음식 수(min 이상 max 이하, max가 null이면 상한 없음)
+@Getter
+@AllArgsConstructor
+public class RangeFacetDto {
+    private final int min;
+    private final Integer max;
+    private final int count;
+}
@@ -0,0 +1,18 @@
+package core.backend.dto;
+
+import core.backend.domain.SpicyStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//후기 매운맛 집계(평균, 후기 수, 1~5단계 분포)
+@Getter
+@AllArgsConstructor
+public class SpicyStatsDto {
+    private final double average;
+    private final int reviewCount;
+    private final int[] histogram;
+
+    public static SpicyStatsDto fromEntity(SpicyStats stats) {
+        return new SpicyStatsDto(stats.average(), stats.getReviewCount(), stats.histogram());
+    }
+}
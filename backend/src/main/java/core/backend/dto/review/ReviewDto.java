@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @AllArgsConstructor
@@ -13,6 +15,7 @@ public class ReviewDto {
     private Long foodId;
     private String content;
     private int spicyLevel; //1~5단계
+    private LocalDateTime createDate; //작성 시각(리뷰 페이지 커서 기준)
 
     //엔티티에서 DTO로 변환하는 메서드(foodservice오류나서..)
     public static ReviewDto fromEntity(Review review){
@@ -20,7 +23,8 @@ public class ReviewDto {
                 review.getId(),
                 review.getFood().getId(),
                 review.getContent(),
-                review.getSpicyLevel()
+                review.getSpicyLevel(),
+                review.getCreateDate()
         );
     }
 }
@@ -0,0 +1,7 @@
+package core.backend.event;
+
+import java.util.List;
+
+//음식이 추가/수정되었을 때 발행(CSV 업로드 등)
+public record FoodCatalogChangedEvent(List<Long> foodIds) {
+}
@@ -0,0 +1,6 @@
+package core.backend.event;
+
+//음식 좋아요 수가 바뀌었을 때(커밋 이후) 발행
+//최신 값은 HeartCounter에서 다시 읽음(이벤트 순서가 뒤바뀌어도 마지막 값이 맞도록)
+public record HeartCountChangedEvent(Long foodId) {
+}
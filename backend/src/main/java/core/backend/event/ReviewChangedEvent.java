@@ -0,0 +1,5 @@
+package core.backend.event;
+
+//음식의 리뷰가 추가/수정/삭제되었을 때 발행(음식 상세 버전 갱신용)
+public record ReviewChangedEvent(Long foodId) {
+}
@@ -22,6 +22,11 @@ public enum ErrorCode {
     INVALID_GOOGLE_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 구글 토큰입니다."),
     INVALID_BADGE_WORKING(HttpStatus.BAD_REQUEST, "배지의 정보가 잘못되었습니다."),
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다. 필수 값을 입력하세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+    TOO_MANY_FOOD_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 음식 수를 초과했습니다."),
+    UNSUPPORTED_FILE_TYPE(HttpStatus.BAD_REQUEST, "CSV 또는 XLSX 파일만 업로드할 수 있습니다."),
+    IMPORT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "가져오기 작업을 찾을 수 없습니다."),
+    IMPORT_JOB_NOT_RESUMABLE(HttpStatus.CONFLICT, "다시 시작할 수 없는 가져오기 작업입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 리프레시 토큰입니다."),
     PASSWORD_NOT_MATCH(HttpStatus.BAD_REQUEST, "새 비밀번호와 확인 비밀번호가 일치하지 않습니다.");
 
@@ -0,0 +1,114 @@
+package core.backend.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import core.backend.repository.FoodRepository;
+import core.backend.repository.HeartRepository;
+import core.backend.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+//음식/후기/좋아요 전체 내보내기(응답 스트림에 한 행씩 바로 씀)
+//findAll로 전체 엔티티를 올리지 않고, 프로젝션 스트림(fetch size 1000)을 읽기 전용 트랜잭션 안에서 끝까지 읽음
+//행을 엔티티로 만들지 않으므로 영속성 컨텍스트도 커지지 않아, 데이터가 많아도 메모리 사용량은 일정함
+@Slf4j
+@Service
+public class CatalogExportService {
+
+    private final FoodRepository foodRepository;
+    private final ReviewRepository reviewRepository;
+    private final HeartRepository heartRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CatalogExportService(FoodRepository foodRepository, ReviewRepository reviewRepository,
+                                HeartRepository heartRepository, ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.foodRepository = foodRepository;
+        this.reviewRepository = reviewRepository;
+        this.heartRepository = heartRepository;
+        this.objectMapper = objectMapper;
+        //내보내기는 컨트롤러의 WebAsyncTask(비동기 작업 스레드)에서 실행되므로 @Transactional 대신 직접 트랜잭션을 엶
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(ExportDataset dataset, ExportFormat format, OutputStream output) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = stream(dataset)) {
+                    long count = format == ExportFormat.CSV
+                            ? writeCsv(dataset.getColumns(), rows, output)
+                            : writeNdjson(dataset.getColumns(), rows, output);
+                    log.info("{} 내보내기 완료({}, {}행)", dataset.getValue(), format.getValue(), count);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트가 연결을 끊은 경우 등
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Stream<Object[]> stream(ExportDataset dataset) {
+        return switch (dataset) {
+            case FOODS -> foodRepository.streamAllForExport();
+            case REVIEWS -> reviewRepository.streamAllForExport();
+            case HEARTS -> heartRepository.streamAllForExport();
+        };
+    }
+
+    //엑셀에서 한글이 깨지지 않도록 BOM 포함, 이름/설명 등 사용자 입력은 수식으로 실행되지 않게 처리
+    private long writeCsv(List<String> columns, Stream<Object[]> rows, OutputStream output) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        CSVPrinter printer = new CSVPrinter(writer,
+                CSVFormat.DEFAULT.builder().setHeader(columns.toArray(String[]::new)).build());
+        long count = 0;
+        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+            printer.printRecord(CsvCells.escapeFormulas(row));
+            count++;
+        }
+        printer.flush();
+        return count;
+    }
+
+    //날짜 등은 스프링 ObjectMapper 설정(ISO 문자열)을 그대로 따름
+    private long writeNdjson(List<String> columns, Stream<Object[]> rows, OutputStream output) throws IOException {
+        SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(output);
+        long count = 0;
+        Map<String, Object> line = new LinkedHashMap<>();
+        for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+            for (int i = 0; i < columns.size(); i++) {
+                line.put(columns.get(i), row[i]);
+            }
+            writer.write(line);
+            count++;
+        }
+        writer.close(); // AUTO_CLOSE_TARGET을 껐으므로 응답 스트림은 닫지 않음
+        if (count > 0) {
+            output.write('\n'); // 마지막 줄도 줄바꿈으로 끝냄
+        }
+        output.flush();
+        return count;
+    }
+}
@@ -0,0 +1,28 @@
+package core.backend.exporter;
+
+//CSV로 내려보내는 셀 값 처리
+public final class CsvCells {
+
+    private CsvCells() {
+    }
+
+    //엑셀 등에서 수식으로 실행되지 않도록(CSV 수식 삽입) =, +, -, @, 탭, CR로 시작하는 문자열 앞에 ' 를 붙임
+    //숫자/날짜 값은 그대로 둠(음수 스코빌 등이 문자열로 바뀌지 않도록)
+    public static Object escapeFormula(Object value) {
+        if (!(value instanceof String text) || text.isEmpty()) {
+            return value;
+        }
+        return switch (text.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + text;
+            default -> text;
+        };
+    }
+
+    //한 행의 모든 셀에 escapeFormula 적용(배열을 그대로 바꿈)
+    public static Object[] escapeFormulas(Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            row[i] = escapeFormula(row[i]);
+        }
+        return row;
+    }
+}
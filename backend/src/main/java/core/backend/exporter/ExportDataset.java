@@ -0,0 +1,34 @@
+package core.backend.exporter;
+
+import core.backend.exception.CustomException;
+import core.backend.exception.ErrorCode;
+import lombok.Getter;
+
+import java.util.List;
+
+//내보낼 수 있는 데이터(경로 이름, 열 이름), 열 순서는 각 리포지토리 streamAllForExport의 select 순서와 같음
+@Getter
+public enum ExportDataset {
+    FOODS("foods", List.of("food_id", "name", "english_name", "category", "scoville", "img_url",
+            "heart_count", "description")),
+    REVIEWS("reviews", List.of("review_id", "food_id", "member_id", "rating", "spicy_level", "upvote",
+            "downvote", "photo_url", "content", "create_date", "update_date")),
+    HEARTS("hearts", List.of("heart_id", "food_id", "member_id"));
+
+    private final String value;
+    private final List<String> columns;
+
+    ExportDataset(String value, List<String> columns) {
+        this.value = value;
+        this.columns = columns;
+    }
+
+    public static ExportDataset from(String value) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.value.equalsIgnoreCase(value)) {
+                return dataset;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
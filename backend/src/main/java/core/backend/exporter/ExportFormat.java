@@ -0,0 +1,36 @@
+package core.backend.exporter;
+
+import core.backend.exception.CustomException;
+import core.backend.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+//내보내기 형식(CSV: 헤더 + 한 행씩, NDJSON: 한 줄에 JSON 객체 하나)
+@Getter
+public enum ExportFormat {
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+    NDJSON("ndjson", new MediaType("application", "x-ndjson", StandardCharsets.UTF_8));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ExportFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    //없으면 CSV
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.value.equalsIgnoreCase(value.strip())) {
+                return format;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_INPUT);
+    }
+}
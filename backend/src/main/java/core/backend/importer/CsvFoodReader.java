@@ -0,0 +1,60 @@
+package core.backend.importer;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+//CSV 스트리밍 읽기(commons-csv), 따옴표 안의 쉼표/줄바꿈이 있는 설명도 한 칸으로 읽음
+//행 번호는 레코드 기준(설명 안의 줄바꿈은 한 행으로 셈), 엑셀에서 저장한 UTF-8 BOM은 건너뜀
+@Component
+public class CsvFoodReader implements FoodRowReader {
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setIgnoreEmptyLines(true)
+            .build();
+
+    @Override
+    public void read(Path file, FoodImportPipeline pipeline) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        skipBom(reader);
+        try (CSVParser parser = FORMAT.parse(reader)) {
+            Iterator<CSVRecord> records = parser.iterator();
+            boolean header = true;
+            while (true) {
+                CSVRecord record;
+                try {
+                    if (!records.hasNext()) {
+                        return;
+                    }
+                    record = records.next();
+                } catch (UncheckedIOException | IllegalStateException e) {
+                    //따옴표가 깨지면 그 뒤의 행 경계를 알 수 없으므로 이 행을 잘못된 행으로 남기고 중단
+                    long rowNumber = parser.getRecordNumber() + 1;
+                    pipeline.reject(rowNumber, "CSV 형식 오류(따옴표가 닫히지 않았거나 따옴표 뒤에 다른 문자가 있음)");
+                    throw new FoodImportFormatException(rowNumber + "행 CSV 형식 오류로 이후 행은 처리하지 않았습니다.", e);
+                }
+                if (header) { // 첫 행은 열 이름
+                    header = false;
+                    continue;
+                }
+                pipeline.accept(record.getRecordNumber(), record.toList());
+            }
+        }
+    }
+
+    private static void skipBom(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+}
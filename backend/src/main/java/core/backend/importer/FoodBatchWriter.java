@@ -0,0 +1,110 @@
+package core.backend.importer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+//가져오기 행 묶음을 JDBC 배치 INSERT/UPDATE로 저장(묶음마다 별도 트랜잭션, 엔티티/영속성 컨텍스트를 거치지 않음)
+//food_id가 IDENTITY라 Hibernate는 배치 INSERT를 하지 못하므로 JdbcTemplate 사용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO food (category, name, english_name, scoville, img_url, " +
+            "description) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE food SET category = ?, english_name = ?, scoville = ?, " +
+            "img_url = ?, description = ? WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    //묶음 저장 결과(새로 추가한 음식 id, 수정한 음식 id)
+    public record Result(List<Long> insertedIds, List<Long> updatedIds) {
+    }
+
+    //묶음 저장(추가는 배치 INSERT, upsert로 바뀐 음식은 배치 UPDATE, heart_count, spicy 집계 컬럼은 건드리지 않음)
+    //inTransaction은 같은 트랜잭션 안에서 결과로 호출(체크포인트 저장), 빈 묶음이어도 호출
+    //검사와 저장 사이에 다른 요청이 같은 이름을 먼저 저장했다면, 그 행만 빼고 한 번 더 저장
+    public Result write(List<FoodImportRow> inserts, List<FoodImportRow> updates, Consumer<Result> inTransaction) {
+        try {
+            return transactionTemplate.execute(status -> writeChunk(inserts, updates, inTransaction));
+        } catch (DuplicateKeyException e) {
+            List<FoodImportRow> remaining = withoutExisting(inserts);
+            log.info("가져오기 중 이미 저장된 음식 {}건 건너뜀", inserts.size() - remaining.size());
+            return transactionTemplate.execute(status -> writeChunk(remaining, updates, inTransaction));
+        }
+    }
+
+    private Result writeChunk(List<FoodImportRow> inserts, List<FoodImportRow> updates, Consumer<Result> inTransaction) {
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, row) -> {
+                ps.setString(1, row.category());
+                ps.setString(2, row.name());
+                ps.setString(3, row.englishName());
+                ps.setInt(4, row.scoville());
+                ps.setString(5, row.imgUrl());
+                ps.setString(6, row.description());
+            });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, row) -> {
+                ps.setString(1, row.category());
+                ps.setString(2, row.englishName());
+                ps.setInt(3, row.scoville());
+                ps.setString(4, row.imgUrl());
+                ps.setString(5, row.description());
+                ps.setString(6, row.name());
+            });
+        }
+        Result result = new Result(idsOf(inserts), idsOf(updates));
+        inTransaction.accept(result);
+        return result;
+    }
+
+    //배치 INSERT의 생성 키는 드라이버마다 보장되지 않으므로 이름(unique)으로 다시 조회
+    private List<Long> idsOf(List<FoodImportRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.queryForList(
+                "SELECT food_id FROM food WHERE name IN (:names)",
+                Map.of("names", rows.stream().map(FoodImportRow::name).toList()),
+                Long.class);
+    }
+
+    private List<FoodImportRow> withoutExisting(List<FoodImportRow> rows) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> existing = new HashSet<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT name, english_name FROM food WHERE name IN (:names) OR english_name IN (:englishNames)",
+                Map.of("names", rows.stream().map(FoodImportRow::name).toList(),
+                        "englishNames", rows.stream().map(FoodImportRow::englishName).toList()),
+                rs -> {
+                    existing.add(FoodImportPipeline.key(rs.getString(1)));
+                    existing.add(FoodImportPipeline.key(rs.getString(2)));
+                });
+        List<FoodImportRow> remaining = new ArrayList<>(rows.size());
+        for (FoodImportRow row : rows) {
+            if (!existing.contains(FoodImportPipeline.key(row.name()))
+                    && !existing.contains(FoodImportPipeline.key(row.englishName()))) {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+}
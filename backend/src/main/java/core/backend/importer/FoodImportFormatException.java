@@ -0,0 +1,12 @@
+package core.backend.importer;
+
+import java.io.IOException;
+
+//파일 구조가 깨져서 그 뒤로는 행을 믿고 읽을 수 없는 경우(닫히지 않은 따옴표 등)
+//해당 행은 잘못된 행으로 남기고, 그 전까지 읽은 행은 저장한 뒤 작업을 실패 처리
+public class FoodImportFormatException extends IOException {
+
+    public FoodImportFormatException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,57 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+//가져오기 작업의 상태/체크포인트/오류 행 저장(SQL 직접 실행)
+//체크포인트는 FoodBatchWriter가 연 묶음 트랜잭션 안에서 호출되므로 음식 INSERT와 함께 커밋/롤백됨
+@Component
+@RequiredArgsConstructor
+public class FoodImportJobStore {
+
+    private static final int ERROR_REASON_LENGTH = 500;
+    private static final int ERROR_MESSAGE_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveCheckpoint(long jobId, FoodImportProgress progress, List<FoodImportRowError> errors) {
+        if (!errors.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO food_import_error (food_import_job_id, source_row, name, reason) VALUES (?, ?, ?, ?)",
+                    errors, errors.size(), (ps, error) -> {
+                        ps.setLong(1, jobId);
+                        ps.setLong(2, error.sourceRow());
+                        ps.setString(3, truncate(error.name(), 255));
+                        ps.setString(4, truncate(error.reason(), ERROR_REASON_LENGTH));
+                    });
+        }
+        jdbcTemplate.update("UPDATE food_import_job SET checkpoint_row = ?, total_rows = ?, inserted = ?, " +
+                        "updated = ?, unchanged = ?, duplicates = ?, invalid = ?, update_date = NOW() " +
+                        "WHERE food_import_job_id = ?",
+                progress.checkpointRow(), progress.totalRows(), progress.inserted(), progress.updated(),
+                progress.unchanged(), progress.duplicates(), progress.invalid(), jobId);
+    }
+
+    public void updateStatus(long jobId, FoodImportStatus status, String errorMessage) {
+        jdbcTemplate.update("UPDATE food_import_job SET status = ?, error_message = ?, update_date = NOW() " +
+                        "WHERE food_import_job_id = ?",
+                status.name(), truncate(errorMessage, ERROR_MESSAGE_LENGTH), jobId);
+    }
+
+    //오류 행을 행 번호 순으로 limit개 조회(afterRow 다음부터, 보고서를 나눠 읽는 키셋 페이지)
+    public List<FoodImportRowError> findErrors(long jobId, long afterRow, int limit) {
+        return jdbcTemplate.query(
+                "SELECT source_row, name, reason FROM food_import_error " +
+                        "WHERE food_import_job_id = ? AND source_row > ? ORDER BY source_row LIMIT ?",
+                (rs, i) -> new FoodImportRowError(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                jobId, afterRow, limit);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
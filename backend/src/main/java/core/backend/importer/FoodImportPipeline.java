@@ -0,0 +1,194 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportMode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+//가져오기 작업 1회분 처리 흐름: 행 검사 -> 기존 음식과 비교 -> 묶음(chunk)이 차면 배치 저장 + 체크포인트
+//파일 형식(CSV, XLSX)과 무관하게 reader가 행을 하나씩 넘겨 주므로 메모리에는 묶음 하나만 남음
+//묶음의 음식 INSERT/UPDATE, 오류 행, 체크포인트는 한 트랜잭션으로 커밋되므로, 중단된 작업은 체크포인트 다음 행부터 이어서 처리
+//INSERT: 이름이 이미 있으면 중복으로 건너뜀, UPSERT: 이름이 있으면 DB의 현재 값과 다를 때만 수정
+@Slf4j
+public class FoodImportPipeline {
+
+    private final long jobId;
+    private final FoodImportMode mode;
+    private final FoodBatchWriter writer;
+    private final FoodImportJobStore jobStore;
+    private final Map<String, String> names; // 이름 -> FoodImportRow.content() 비교 값(INSERT 방식이면 null), 이번 파일에서 추가한 음식 포함
+    private final Map<String, String> englishNames; // 영어 이름 -> 이름(다른 음식과 영어 이름이 겹치는지 확인)
+    private final Set<String> seen = new HashSet<>(); // 이 파일에서 이미 처리한 이름(파일 안 중복), 이어서 처리하면 체크포인트까지 다시 모음
+    private final int chunkSize;
+    private final Consumer<List<Long>> onChanged;
+    private final long resumeAfterRow;
+    private final List<FoodImportRow> inserts;
+    private final List<FoodImportRow> updates = new ArrayList<>();
+    private final List<FoodImportRowError> errors = new ArrayList<>();
+
+    @Getter
+    private FoodImportProgress progress; // 마지막으로 커밋된 진행 상황
+    private long lastRow;
+    private long totalRows;
+    private long unchanged;
+    private long duplicates;
+    private long invalid;
+
+    //names, englishNames 키는 key()로 정규화한 값
+    public FoodImportPipeline(long jobId, FoodImportMode mode, FoodBatchWriter writer, FoodImportJobStore jobStore,
+                              Map<String, String> names, Map<String, String> englishNames, int chunkSize,
+                              FoodImportProgress resumeFrom, Consumer<List<Long>> onChanged) {
+        this.jobId = jobId;
+        this.mode = mode;
+        this.writer = writer;
+        this.jobStore = jobStore;
+        this.names = names;
+        this.englishNames = englishNames;
+        this.chunkSize = chunkSize;
+        this.onChanged = onChanged;
+        this.inserts = new ArrayList<>(chunkSize);
+        this.progress = resumeFrom;
+        this.resumeAfterRow = resumeFrom.checkpointRow();
+        this.lastRow = resumeFrom.checkpointRow();
+        this.totalRows = resumeFrom.totalRows();
+        this.unchanged = resumeFrom.unchanged();
+        this.duplicates = resumeFrom.duplicates();
+        this.invalid = resumeFrom.invalid();
+    }
+
+    //이름 비교 키(MariaDB 기본 콜레이션은 대소문자 구분 없음)
+    static String key(String name) {
+        return name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    //reader가 데이터 행마다 호출, 마지막 체크포인트 이후 chunkSize행을 읽을 때마다 저장
+    public void accept(long rowNumber, List<String> cells) {
+        if (rowNumber <= resumeAfterRow) { // 이전 실행에서 커밋된 행은 저장하지 않고 이름만 다시 모음
+            replay(rowNumber, cells);
+            return;
+        }
+        lastRow = rowNumber;
+        totalRows++;
+        classify(rowNumber, cells);
+        if (totalRows - progress.totalRows() >= chunkSize) { // 변경 없는 행만 이어져도 진행 상황이 남도록 읽은 행 수 기준
+            flush();
+        }
+    }
+
+    private void classify(long rowNumber, List<String> cells) {
+        FoodImportRow row;
+        try {
+            row = FoodImportRow.parse(rowNumber, cells);
+        } catch (IllegalArgumentException e) {
+            invalid++;
+            skip(rowNumber, cells.size() > 1 ? cells.get(1) : null, e.getMessage());
+            return;
+        }
+        String name = key(row.name());
+        String englishName = key(row.englishName());
+        String englishOwner = englishNames.get(englishName);
+        if (seen.contains(name)) {
+            duplicates++;
+            skip(rowNumber, row.name(), "파일 안에서 중복된 음식");
+        } else if (!names.containsKey(name)) {
+            if (englishOwner != null) {
+                duplicates++;
+                skip(rowNumber, row.name(), "영어 이름이 다른 음식과 중복");
+                return;
+            }
+            seen.add(name);
+            names.put(name, null);
+            englishNames.put(englishName, name);
+            inserts.add(row);
+        } else if (mode != FoodImportMode.UPSERT) {
+            duplicates++;
+            skip(rowNumber, row.name(), "이미 존재하는 음식");
+        } else if (englishOwner != null && !englishOwner.equals(name)) {
+            duplicates++;
+            skip(rowNumber, row.name(), "영어 이름이 다른 음식과 중복");
+        } else {
+            seen.add(name);
+            if (row.content().equals(names.get(name))) {
+                unchanged++; // 내용이 같으면 UPDATE하지 않음
+                return;
+            }
+            englishNames.put(englishName, name);
+            updates.add(row);
+        }
+    }
+
+    //이어서 처리할 때 seen을 중단 전과 같게 복원(비우고 시작하면 체크포인트 앞 행과 겹치는 이름이 파일 안 중복이 아니라 수정으로 처리됨)
+    //이전 실행에서 처리된 행은 이미 DB에 있으므로, 영어 이름이 다른 음식과 겹쳐 건너뛴 행만 빼고 이름을 기록
+    private void replay(long rowNumber, List<String> cells) {
+        FoodImportRow row;
+        try {
+            row = FoodImportRow.parse(rowNumber, cells);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        String name = key(row.name());
+        String englishOwner = englishNames.get(key(row.englishName()));
+        if (englishOwner == null || englishOwner.equals(name)) {
+            seen.add(name);
+        }
+    }
+
+    //reader가 셀을 나눌 수 없었던 행(파일 형식 오류)을 잘못된 행으로 기록
+    public void reject(long rowNumber, String reason) {
+        if (rowNumber <= resumeAfterRow) {
+            return;
+        }
+        lastRow = rowNumber;
+        totalRows++;
+        invalid++;
+        skip(rowNumber, null, reason);
+    }
+
+    //남은 묶음 저장(reader가 끝까지 읽은 뒤 호출)
+    public void finish() {
+        flush();
+    }
+
+    private void skip(long rowNumber, String name, String reason) {
+        log.debug("가져오기 행 건너뜀(작업 {}, {}행): {}", jobId, rowNumber, reason);
+        errors.add(new FoodImportRowError(rowNumber, name, reason));
+    }
+
+    private void flush() {
+        if (lastRow == progress.checkpointRow()) { // 마지막 체크포인트 이후 읽은 행 없음
+            return;
+        }
+        List<FoodImportRow> insertRows = List.copyOf(inserts);
+        List<FoodImportRow> updateRows = List.copyOf(updates);
+        List<FoodImportRowError> skipped = List.copyOf(errors);
+        long checkpointRow = lastRow;
+        FoodImportProgress base = progress;
+        FoodBatchWriter.Result result = writer.write(insertRows, updateRows, written -> jobStore.saveCheckpoint(
+                jobId, committed(checkpointRow, base, insertRows.size(), written), skipped));
+        progress = committed(checkpointRow, base, insertRows.size(), result);
+        duplicates = progress.duplicates();
+        inserts.clear();
+        updates.clear();
+        errors.clear();
+
+        List<Long> changed = new ArrayList<>(result.insertedIds());
+        changed.addAll(result.updatedIds());
+        onChanged.accept(changed);
+    }
+
+    //저장 중 다른 요청과의 이름 경합으로 빠진 행은 중복으로 셈
+    private FoodImportProgress committed(long checkpointRow, FoodImportProgress base, int requestedInserts,
+                                         FoodBatchWriter.Result written) {
+        int inserted = written.insertedIds().size();
+        return new FoodImportProgress(checkpointRow, totalRows, base.inserted() + inserted,
+                base.updated() + written.updatedIds().size(), unchanged,
+                duplicates + requestedInserts - inserted, invalid);
+    }
+}
@@ -0,0 +1,13 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportJob;
+
+//가져오기 진행 상황(체크포인트 행 번호와 누적 행 수)
+public record FoodImportProgress(long checkpointRow, long totalRows, long inserted, long updated, long unchanged,
+                                 long duplicates, long invalid) {
+
+    static FoodImportProgress of(FoodImportJob job) {
+        return new FoodImportProgress(job.getCheckpointRow(), job.getTotalRows(), job.getInserted(),
+                job.getUpdated(), job.getUnchanged(), job.getDuplicates(), job.getInvalid());
+    }
+}
@@ -0,0 +1,71 @@
+package core.backend.importer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+//가져오기 파일 한 행(열 순서: 카테고리, 이름, 영어 이름, 스코빌, 이미지 URL, 설명)
+public record FoodImportRow(long rowNumber, String category, String name, String englishName,
+                            int scoville, String imgUrl, String description) {
+
+    static final int COLUMN_COUNT = 6;
+    private static final String CONTENT_SEPARATOR = "\u001F";
+
+    //필수 값(카테고리, 이름, 영어 이름, 이미지 URL)과 스코빌(0 이상 정수) 검사, 잘못된 행이면 IllegalArgumentException(사유)
+    static FoodImportRow parse(long rowNumber, List<String> cells) {
+        if (cells.size() < COLUMN_COUNT - 1) {
+            throw new IllegalArgumentException("열 개수 부족(" + cells.size() + "개)");
+        }
+        String category = required(cells, 0, "카테고리");
+        String name = required(cells, 1, "이름");
+        String englishName = required(cells, 2, "영어 이름");
+        String scovilleText = required(cells, 3, "스코빌");
+        String imgUrl = required(cells, 4, "이미지 URL");
+        String description = cells.size() > 5 ? trim(cells.get(5)) : "";
+        int scoville;
+        try {
+            scoville = Integer.parseInt(scovilleText.replace(",", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 스코빌 값: " + scovilleText);
+        }
+        if (scoville < 0) {
+            throw new IllegalArgumentException("잘못된 스코빌 값: " + scovilleText);
+        }
+        return new FoodImportRow(rowNumber, category, name, englishName, scoville, imgUrl, description);
+    }
+
+    //upsert 비교 값(카테고리, 영어 이름, 스코빌, 이미지 URL은 그대로, 긴 설명만 해시), 같으면 UPDATE하지 않음
+    public String content() {
+        return content(category, englishName, Integer.toString(scoville), imgUrl, descriptionHash());
+    }
+
+    //DB의 현재 값으로 같은 비교 값을 만들 때 사용(FoodRepository.findAllImportContents)
+    static String content(String category, String englishName, String scoville, String imgUrl, String descriptionHash) {
+        return String.join(CONTENT_SEPARATOR, category, englishName, scoville, imgUrl, descriptionHash);
+    }
+
+    //설명 해시(SHA-256 16진수, 소문자)
+    //Food.descriptionDigest(DB 생성 컬럼)가 SQL로 같은 값을 계산하므로 두 곳을 함께 바꿔야 함
+    public String descriptionHash() {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM이 SHA-256 지원
+        }
+    }
+
+    private static String required(List<String> cells, int index, String column) {
+        String value = trim(cells.get(index));
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(column + " 없음");
+        }
+        return value;
+    }
+
+    private static String trim(String value) {
+        return value == null ? "" : value.strip();
+    }
+}
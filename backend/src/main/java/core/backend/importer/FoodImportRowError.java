@@ -0,0 +1,5 @@
+package core.backend.importer;
+
+//건너뛴 행 한 건(오류 보고서 한 줄)
+public record FoodImportRowError(long sourceRow, String name, String reason) {
+}
@@ -0,0 +1,254 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportJob;
+import core.backend.domain.FoodImportMode;
+import core.backend.domain.FoodImportStatus;
+import core.backend.dto.FoodImportJobDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.exception.CustomException;
+import core.backend.exception.ErrorCode;
+import core.backend.exporter.CsvCells;
+import core.backend.repository.FoodImportJobRepository;
+import core.backend.repository.FoodRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//음식 파일 가져오기 작업(업로드는 파일만 저장하고 바로 응답, 읽기/저장은 백그라운드 스레드에서 처리)
+//묶음마다 커밋 + 체크포인트를 남기므로, 서버가 재시작되거나 실패한 작업은 체크포인트 다음 행부터 이어서 처리
+//작업은 한 번에 하나씩 실행(같은 이름을 두 작업이 동시에 검사하지 않도록)
+@Slf4j
+@Service
+public class FoodImportService {
+
+    private static final int CHUNK_SIZE = 1000; //배치 INSERT 한 번(트랜잭션 하나)에 저장할 행 수
+    private static final int EVENT_SLICE_SIZE = 5000; //카탈로그 변경 이벤트 하나에 담을 음식 수
+    private static final int ERROR_REPORT_PAGE_SIZE = 1000;
+
+    private final FoodRepository foodRepository;
+    private final FoodImportJobRepository foodImportJobRepository;
+    private final FoodImportJobStore jobStore;
+    private final FoodBatchWriter foodBatchWriter;
+    private final CsvFoodReader csvFoodReader;
+    private final XlsxFoodReader xlsxFoodReader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path importDir;
+    private final ExecutorService worker;
+
+    public FoodImportService(FoodRepository foodRepository, FoodImportJobRepository foodImportJobRepository,
+                             FoodImportJobStore jobStore, FoodBatchWriter foodBatchWriter,
+                             CsvFoodReader csvFoodReader, XlsxFoodReader xlsxFoodReader,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${food.import.dir:data/food-import}") String importDir) {
+        this.foodRepository = foodRepository;
+        this.foodImportJobRepository = foodImportJobRepository;
+        this.jobStore = jobStore;
+        this.foodBatchWriter = foodBatchWriter;
+        this.csvFoodReader = csvFoodReader;
+        this.xlsxFoodReader = xlsxFoodReader;
+        this.eventPublisher = eventPublisher;
+        this.importDir = Path.of(importDir).toAbsolutePath(); // 작업에 저장하는 경로가 실행 위치와 무관하도록
+        //중단되어도 체크포인트에서 이어서 처리하므로 종료를 막지 않는 데몬 스레드
+        this.worker = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "food-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    //CSV/XLSX 파일 업로드(열 순서: 카테고리, 이름, 영어 이름, 스코빌, 이미지 URL, 설명, 첫 행은 헤더)
+    //mode: INSERT(새 음식만 추가), UPSERT(이미 있는 음식은 내용이 바뀐 경우에만 수정)
+    public FoodImportJobDto submit(MultipartFile file, FoodImportMode mode) {
+        if (file.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        String filename = file.getOriginalFilename() == null ? "upload.csv" : file.getOriginalFilename();
+        readerFor(filename); // 지원하지 않는 형식은 저장 전에 거절
+
+        Path stored = importDir.resolve(UUID.randomUUID() + extensionOf(filename));
+        try {
+            Files.createDirectories(importDir);
+            file.transferTo(stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 저장하는 중 오류 발생", e);
+        }
+        FoodImportJob job = foodImportJobRepository.save(FoodImportJob.builder()
+                .filename(filename)
+                .storedPath(stored.toString())
+                .status(FoodImportStatus.PENDING)
+                .mode(mode)
+                .build());
+        worker.execute(() -> run(job.getId()));
+        return FoodImportJobDto.fromEntity(job);
+    }
+
+    public FoodImportJobDto getJob(Long jobId) {
+        return FoodImportJobDto.fromEntity(findJob(jobId));
+    }
+
+    //실패한 작업을 체크포인트 다음 행부터 다시 실행
+    public FoodImportJobDto resume(Long jobId) {
+        FoodImportJob job = findJob(jobId);
+        if (job.getStatus() != FoodImportStatus.FAILED || !Files.exists(Path.of(job.getStoredPath()))) {
+            throw new CustomException(ErrorCode.IMPORT_JOB_NOT_RESUMABLE);
+        }
+        jobStore.updateStatus(jobId, FoodImportStatus.PENDING, null);
+        worker.execute(() -> run(jobId));
+        return getJob(jobId);
+    }
+
+    //건너뛴 행 보고서(CSV: 행 번호, 이름, 사유), 엑셀에서 한글이 깨지지 않도록 BOM 포함
+    //오류 행은 페이지 단위로 읽어 바로 쓰므로 보고서가 커도 메모리에 모아 두지 않음(작업 존재 여부는 getJob으로 먼저 확인)
+    public void writeErrorReport(Long jobId, OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write('\uFEFF');
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader("row", "name", "reason").build());
+        long after = 0;
+        List<FoodImportRowError> page;
+        do {
+            page = jobStore.findErrors(jobId, after, ERROR_REPORT_PAGE_SIZE);
+            for (FoodImportRowError error : page) {
+                printer.printRecord(error.sourceRow(), CsvCells.escapeFormula(error.name()),
+                        CsvCells.escapeFormula(error.reason())); // 파일에서 읽은 값이 수식으로 실행되지 않도록
+                after = error.sourceRow();
+            }
+        } while (page.size() == ERROR_REPORT_PAGE_SIZE);
+        printer.flush();
+    }
+
+    //서버 재시작 전에 끝나지 않은 작업 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        for (FoodImportJob job : foodImportJobRepository.findByStatusInOrderByIdAsc(
+                EnumSet.of(FoodImportStatus.PENDING, FoodImportStatus.RUNNING))) {
+            log.info("음식 가져오기 작업 {} 이어서 처리({}행부터)", job.getId(), job.getCheckpointRow() + 1);
+            worker.execute(() -> run(job.getId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void run(Long jobId) {
+        FoodImportJob job = foodImportJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == FoodImportStatus.COMPLETED) {
+            return;
+        }
+        Path file = Path.of(job.getStoredPath());
+        if (!Files.exists(file)) { // 보관 위치가 정리되었거나 바뀐 경우, 이어서 처리할 수 없으므로 원인을 남기고 실패 처리
+            log.warn("음식 가져오기 작업 {} 실패: 업로드 파일 {} 없음", jobId, file);
+            jobStore.updateStatus(jobId, FoodImportStatus.FAILED,
+                    "업로드 파일이 없습니다(" + file + "). food.import.dir 위치를 확인하고 파일을 다시 업로드해 주세요.");
+            return;
+        }
+        jobStore.updateStatus(jobId, FoodImportStatus.RUNNING, null);
+
+        //기존 이름(upsert면 비교 값도)을 한 번에 읽어 두고 행마다 DB를 조회하지 않음(이전 실행에서 저장된 행도 포함)
+        Map<String, String> names = new HashMap<>();
+        Map<String, String> englishNames = new HashMap<>();
+        List<Long> changedIds = new ArrayList<>();
+        FoodImportPipeline pipeline = null;
+        try {
+            List<Object[]> existing = job.getMode() == FoodImportMode.UPSERT
+                    ? foodRepository.findAllImportContents() : foodRepository.findAllNames();
+            for (Object[] row : existing) {
+                String name = FoodImportPipeline.key((String) row[0]);
+                names.put(name, row.length > 2 ? FoodImportRow.content((String) row[2], (String) row[1],
+                        String.valueOf(row[3]), (String) row[4], (String) row[5]) : null);
+                englishNames.put(FoodImportPipeline.key((String) row[1]), name);
+            }
+            pipeline = new FoodImportPipeline(jobId, job.getMode(), foodBatchWriter, jobStore,
+                    names, englishNames, CHUNK_SIZE, FoodImportProgress.of(job), ids -> {
+                        changedIds.addAll(ids);
+                        if (changedIds.size() >= EVENT_SLICE_SIZE) { // 작업 중에도 카탈로그에 조금씩 반영
+                            publishCatalogChanged(changedIds);
+                        }
+                    });
+            readerFor(job.getFilename()).read(file, pipeline);
+            pipeline.finish();
+            jobStore.updateStatus(jobId, FoodImportStatus.COMPLETED, null);
+            Files.deleteIfExists(file);
+
+            FoodImportProgress progress = pipeline.getProgress();
+            log.info("음식 가져오기 작업 {} 완료: 전체 {}행, 추가 {}, 수정 {}, 변경 없음 {}, 중복 {}, 잘못된 행 {}", jobId,
+                    progress.totalRows(), progress.inserted(), progress.updated(), progress.unchanged(),
+                    progress.duplicates(), progress.invalid());
+        } catch (FoodImportFormatException e) {
+            //형식 오류 전까지 읽은 행과 오류 행은 저장하고 실패 처리(오류 보고서에 해당 행이 남음)
+            log.warn("음식 가져오기 작업 {} 실패: {}", jobId, e.getMessage());
+            fail(jobId, pipeline, e);
+        } catch (Exception e) {
+            log.warn("음식 가져오기 작업 {} 실패", jobId, e);
+            jobStore.updateStatus(jobId, FoodImportStatus.FAILED,
+                    e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        } finally {
+            publishCatalogChanged(changedIds); // 실패해도 이미 커밋된 묶음은 반영
+        }
+    }
+
+    private void fail(Long jobId, FoodImportPipeline pipeline, FoodImportFormatException e) {
+        try {
+            pipeline.finish();
+        } catch (RuntimeException flushError) {
+            log.warn("음식 가져오기 작업 {} 마지막 묶음 저장 실패", jobId, flushError);
+        }
+        jobStore.updateStatus(jobId, FoodImportStatus.FAILED, e.getMessage());
+    }
+
+    private FoodImportJob findJob(Long jobId) {
+        return foodImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.IMPORT_JOB_NOT_FOUND));
+    }
+
+    //확장자로 형식 구분(XLSX 외에는 기존처럼 CSV로 읽음)
+    private FoodRowReader readerFor(String filename) {
+        String lower = filename.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".xlsx")) {
+            return xlsxFoodReader;
+        }
+        if (lower.endsWith(".xls")) {
+            throw new CustomException(ErrorCode.UNSUPPORTED_FILE_TYPE); // 옛 바이너리 형식은 스트리밍 읽기 미지원
+        }
+        return csvFoodReader;
+    }
+
+    private static String extensionOf(String filename) {
+        return filename.toLowerCase(Locale.ROOT).endsWith(".xlsx") ? ".xlsx" : ".csv";
+    }
+
+    //카탈로그/검색 색인은 이벤트의 id로 카드만 다시 읽으므로, IN 절이 너무 길어지지 않게 나눠서 발행
+    private void publishCatalogChanged(List<Long> foodIds) {
+        for (int from = 0; from < foodIds.size(); from += EVENT_SLICE_SIZE) {
+            List<Long> slice = foodIds.subList(from, Math.min(from + EVENT_SLICE_SIZE, foodIds.size()));
+            eventPublisher.publishEvent(new FoodCatalogChangedEvent(List.copyOf(slice)));
+        }
+        foodIds.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package core.backend.importer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+//가져오기 파일 형식별 읽기(행을 하나씩 파이프라인에 넘기고, 파일 전체를 메모리에 올리지 않음)
+public interface FoodRowReader {
+
+    //첫 행(헤더)은 건너뛰고, 행 번호는 파일 기준(헤더 = 1, 이어서 처리할 때 체크포인트 비교에 사용)
+    void read(Path file, FoodImportPipeline pipeline) throws IOException;
+}
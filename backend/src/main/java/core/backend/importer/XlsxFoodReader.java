@@ -0,0 +1,104 @@
+package core.backend.importer;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+//XLSX 스트리밍 읽기(POI SAX 이벤트 모델), 통합 문서를 XSSFWorkbook으로 통째로 올리지 않고 첫 번째 시트를 행 단위로 읽음
+//열 순서는 CSV와 같고, 숫자 셀은 엑셀 표시 형식 그대로 문자열로 받음(예: "2,500")
+@Component
+public class XlsxFoodReader implements FoodRowReader {
+
+    @Override
+    public void read(Path file, FoodImportPipeline pipeline) throws IOException {
+        //InputStream이 아니라 파일로 열어야 zip 전체를 메모리에 풀지 않음
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            readFirstSheet(pkg, pipeline);
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("XLSX 파일 형식이 잘못되었습니다.", e);
+        }
+    }
+
+    private void readFirstSheet(OPCPackage pkg, FoodImportPipeline pipeline)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = reader.getStylesTable();
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+            return;
+        }
+        try (InputStream sheet = sheets.next()) {
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles, strings, new RowHandler(pipeline), new DataFormatter(), false));
+            parser.parse(new InputSource(sheet));
+        }
+    }
+
+    //셀 이벤트를 행 단위로 모아 파이프라인에 넘김(빈 셀은 이벤트가 없으므로 열 위치로 채움)
+    private static class RowHandler implements SheetContentsHandler {
+
+        private final FoodImportPipeline pipeline;
+        private final String[] cells = new String[FoodImportRow.COLUMN_COUNT];
+        private boolean blank;
+        private boolean headerSeen; // 시트 위쪽에 빈 행이 있을 수 있어 0번 행이 아니라 처음 나온 비어 있지 않은 행을 열 이름으로 봄
+
+        RowHandler(FoodImportPipeline pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            Arrays.fill(cells, null);
+            blank = true;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            if (column < cells.length && formattedValue != null) {
+                cells[column] = formattedValue;
+                blank &= formattedValue.isBlank();
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (blank) { // 빈 행은 CSV처럼 건너뜀
+                return;
+            }
+            if (!headerSeen) {
+                headerSeen = true;
+                return;
+            }
+            List<String> row = new ArrayList<>(cells.length);
+            for (String cell : cells) {
+                row.add(cell == null ? "" : cell);
+            }
+            pipeline.accept(rowNum + 1L, row);
+        }
+    }
+}
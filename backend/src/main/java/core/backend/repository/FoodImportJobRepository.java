@@ -0,0 +1,16 @@
+package core.backend.repository;
+
+import core.backend.domain.FoodImportJob;
+import core.backend.domain.FoodImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FoodImportJobRepository extends JpaRepository<FoodImportJob, Long> {
+
+    //서버 재시작 후 이어서 처리할 작업 조회(먼저 올라온 작업부터)
+    List<FoodImportJob> findByStatusInOrderByIdAsc(Collection<FoodImportStatus> statuses);
+}
@@ -1,23 +1,63 @@
 package core.backend.repository;
 
 import core.backend.domain.Food;
+import core.backend.dto.FoodCardDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface FoodRepository extends JpaRepository<Food, Long> {
 
-    //특정 이름 음식 조회
-    Optional<Food> findByName(String name);
+    //가져오기 중복 검사용 [이름, 영어 이름] 조회
+    @Query("select f.name, f.englishName from Food f")
+    List<Object[]> findAllNames();
 
-    //음식 이름, 카테고리로 검색(부분 일치)
-    List<Food> findByNameContainingIgnoreCaseOrCategoryContainingIgnoreCase(String name, String category);
+    //내보내기용 [id, 이름, 영어 이름, 카테고리, 스코빌, 이미지, 좋아요 수, 설명] 전체 스트림(id 순, 엔티티를 만들지 않음)
+    //스트림을 닫을 때까지 트랜잭션이 열려 있어야 함
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000")) // 드라이버가 결과를 1000행씩 나눠 받음
+    @Query("select f.id, f.name, f.englishName, f.category, f.scoville, f.imgUrl, f.heartCount, f.description " +
+            "from Food f order by f.id")
+    Stream<Object[]> streamAllForExport();
+
+    //upsert 가져오기 비교용 [이름, 영어 이름, 카테고리, 스코빌, 이미지 URL, 설명 해시] 조회
+    //설명 해시는 DB 생성 컬럼(description_digest)이라 가져오기 밖에서 설명을 바꿔도 오래된 값이 남지 않음
+    @Query(value = "SELECT name, english_name, category, scoville, img_url, description_digest FROM food", nativeQuery = true)
+    List<Object[]> findAllImportContents();
+
+    //카드 DTO 프로젝션(description, hearts, reviews는 읽지 않음)
+    String CARD = "select new core.backend.dto.FoodCardDto(f.id, f.name, f.englishName, f.scoville, f.category, f.imgUrl, f.heartCount) ";
+
+    @Query(CARD + "from Food f")
+    List<FoodCardDto> findAllCards();
+
+    @Query(CARD + "from Food f where f.id in :foodIds")
+    List<FoodCardDto> findCardsByIdIn(@Param("foodIds") Collection<Long> foodIds);
+
+    //검색 색인용 [id, 이름, 영어 이름, 카테고리, 설명] 조회
+    @Query("select f.id, f.name, f.englishName, f.category, f.description from Food f")
+    List<Object[]> findAllSearchRows();
+
+    @Query("select f.id, f.name, f.englishName, f.category, f.description from Food f where f.id in :foodIds")
+    List<Object[]> findSearchRowsByIdIn(@Param("foodIds") Collection<Long> foodIds);
+
+    //매운맛 기준표 비교용 [id, 스코빌] 조회
+    @Query("select f.id, f.scoville from Food f")
+    List<Object[]> findAllScovilles();
+
+    @Query("select f.id, f.scoville from Food f where f.id in :foodIds")
+    List<Object[]> findScovillesByIdIn(@Param("foodIds") Collection<Long> foodIds);
 
     //특정 카테고리의 음식 목록 조회
     List<Food> findByCategory(String category);
@@ -26,6 +66,71 @@ public interface FoodRepository extends JpaRepository<Food, Long> {
     @Query("select f from Food f left join fetch f.reviews left join fetch f.hearts where f.id = :foodId")
     Optional<Food> findByIdWithReviewsAndHearts(@Param("foodId") Long foodId);
 
-    @Query("SELECT f FROM Food f LEFT JOIN f.hearts h GROUP BY f ORDER BY COUNT(h) DESC LIMIT 2")
-    List<Food> findTop2MostLikedFoods();
+    //인기 순위표용 [id, 이름, 이미지, 카테고리, 좋아요 수] 조회
+    @Query("select f.id, f.name, f.imgUrl, f.category, f.heartCount from Food f")
+    List<Object[]> findAllRankingRows();
+
+    @Query("select f.id, f.name, f.imgUrl, f.category, f.heartCount from Food f where f.id in :foodIds")
+    List<Object[]> findRankingRowsByIdIn(@Param("foodIds") Collection<Long> foodIds);
+
+    //좋아요 수 원자적 증감(엔티티를 거치지 않고 DB에서 바로 더함)
+    @Modifying
+    @Query(value = "UPDATE food SET heart_count = heart_count + :delta WHERE food_id = :foodId", nativeQuery = true)
+    int addHeartCount(@Param("foodId") Long foodId, @Param("delta") int delta);
+
+    //전체 음식의 [id, 좋아요 수] 조회(메모리 카운터 초기화용)
+    @Query("select f.id, f.heartCount from Food f")
+    List<Object[]> findAllHeartCounts();
+
+    //특정 음식들의 [id, 좋아요 수] 조회
+    @Query("select f.id, f.heartCount from Food f where f.id in :foodIds")
+    List<Object[]> findHeartCountsByIdIn(@Param("foodIds") Collection<Long> foodIds);
+
+    //heart_count와 실제 heart 행 개수가 다른 음식 id 조회(정합성 점검용)
+    @Query(value = "SELECT f.food_id FROM food f LEFT JOIN heart h ON h.food_id = f.food_id " +
+            "GROUP BY f.food_id, f.heart_count HAVING f.heart_count <> COUNT(h.heart_id)", nativeQuery = true)
+    List<Long> findHeartCountMismatches();
+
+    //heart 테이블 기준으로 좋아요 수 다시 계산
+    @Modifying
+    @Query(value = "UPDATE food f SET f.heart_count = (SELECT COUNT(*) FROM heart h WHERE h.food_id = f.food_id) " +
+            "WHERE f.food_id IN (:foodIds)", nativeQuery = true)
+    int recountHeartCounts(@Param("foodIds") Collection<Long> foodIds);
+
+    //후기 매운맛 집계 원자적 증감(level 단계 후기 delta개 추가/삭제)
+    @Modifying
+    @Query(value = "UPDATE food SET spicy_review_count = spicy_review_count + :delta, " +
+            "spicy_level_sum = spicy_level_sum + :level * :delta, " +
+            "spicy_level1_count = spicy_level1_count + CASE WHEN :level = 1 THEN :delta ELSE 0 END, " +
+            "spicy_level2_count = spicy_level2_count + CASE WHEN :level = 2 THEN :delta ELSE 0 END, " +
+            "spicy_level3_count = spicy_level3_count + CASE WHEN :level = 3 THEN :delta ELSE 0 END, " +
+            "spicy_level4_count = spicy_level4_count + CASE WHEN :level = 4 THEN :delta ELSE 0 END, " +
+            "spicy_level5_count = spicy_level5_count + CASE WHEN :level = 5 THEN :delta ELSE 0 END " +
+            "WHERE food_id = :foodId", nativeQuery = true)
+    int addSpicyLevel(@Param("foodId") Long foodId, @Param("level") int level, @Param("delta") int delta);
+
+    //매운맛 집계와 실제 review 행이 다른 음식 id 조회(정합성 점검용)
+    @Query(value = "SELECT f.food_id FROM food f LEFT JOIN review r ON r.food_id = f.food_id " +
+            "GROUP BY f.food_id, f.spicy_review_count, f.spicy_level_sum, f.spicy_level1_count, f.spicy_level2_count, " +
+            "f.spicy_level3_count, f.spicy_level4_count, f.spicy_level5_count " +
+            "HAVING f.spicy_review_count <> COUNT(r.review_id) OR f.spicy_level_sum <> COALESCE(SUM(r.spicy_level), 0) " +
+            "OR f.spicy_level1_count <> COUNT(CASE WHEN r.spicy_level = 1 THEN 1 END) " +
+            "OR f.spicy_level2_count <> COUNT(CASE WHEN r.spicy_level = 2 THEN 1 END) " +
+            "OR f.spicy_level3_count <> COUNT(CASE WHEN r.spicy_level = 3 THEN 1 END) " +
+            "OR f.spicy_level4_count <> COUNT(CASE WHEN r.spicy_level = 4 THEN 1 END) " +
+            "OR f.spicy_level5_count <> COUNT(CASE WHEN r.spicy_level = 5 THEN 1 END)", nativeQuery = true)
+    List<Long> findSpicyStatsMismatches();
+
+    //review 테이블 기준으로 매운맛 집계 다시 계산
+    @Modifying
+    @Query(value = "UPDATE food f SET " +
+            "f.spicy_review_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id), " +
+            "f.spicy_level_sum = (SELECT COALESCE(SUM(r.spicy_level), 0) FROM review r WHERE r.food_id = f.food_id), " +
+            "f.spicy_level1_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id AND r.spicy_level = 1), " +
+            "f.spicy_level2_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id AND r.spicy_level = 2), " +
+            "f.spicy_level3_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id AND r.spicy_level = 3), " +
+            "f.spicy_level4_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id AND r.spicy_level = 4), " +
+            "f.spicy_level5_count = (SELECT COUNT(*) FROM review r WHERE r.food_id = f.food_id AND r.spicy_level = 5) " +
+            "WHERE f.food_id IN (:foodIds)", nativeQuery = true)
+    int recountSpicyStats(@Param("foodIds") Collection<Long> foodIds);
 }
@@ -1,19 +1,40 @@
 package core.backend.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
+
 import core.backend.domain.Food;
 import core.backend.domain.Heart;
 import core.backend.domain.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface HeartRepository extends JpaRepository<Heart, Long> {
     boolean existsByFoodAndMember(Food food, Member member);
 
-    void deleteByFoodAndMember(Food food, Member member);
+    //삭제한 행 수 반환(이미 취소된 좋아요면 0)
+    @Modifying
+    @Query("delete from Heart h where h.food = :food and h.member = :member")
+    int deleteByFoodAndMember(@Param("food") Food food, @Param("member") Member member);
 
     List<Heart> findAllByFood(Food food);
 
     List<Heart> findAllByMember(Member member);
+
+    //비슷한 음식 배치용 [회원 id, 음식 id] 전체 스트림(회원 id 순), 스트림을 닫을 때까지 트랜잭션이 열려 있어야 함
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000")) // 드라이버가 결과를 1000행씩 나눠 받음
+    @Query("select h.member.id, h.food.id from Heart h order by h.member.id")
+    Stream<Object[]> streamMemberFoodPairs();
+
+    //내보내기용 [id, 음식 id, 회원 id] 전체 스트림(id 순), 스트림을 닫을 때까지 트랜잭션이 열려 있어야 함
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000")) // 드라이버가 결과를 1000행씩 나눠 받음
+    @Query("select h.id, h.food.id, h.member.id from Heart h order by h.id")
+    Stream<Object[]> streamAllForExport();
 }
@@ -1,11 +1,20 @@
 package core.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import core.backend.domain.Food;
 import core.backend.domain.Member;
 import core.backend.domain.Review;
+import core.backend.dto.review.ReviewDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +25,27 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByFoodId(Long foodID);
 
     void deleteAllByMember(Member member);
+
+    //음식별 리뷰 키셋 페이지(최신순: 작성 시각, id 내림차순), food/member는 읽지 않음
+    //작성 시각이 NULL인 리뷰는 내림차순에서 맨 뒤(MariaDB는 NULL을 가장 작은 값으로 정렬)이므로, 날짜가 있는 커서 뒤에 이어 붙이고 id로만 넘김
+    String REVIEW = "select new core.backend.dto.review.ReviewDto(r.id, r.food.id, r.content, r.spicyLevel, r.createDate) from Review r ";
+
+    @Query(REVIEW + "where r.food.id = :foodId order by r.createDate desc, r.id desc")
+    List<ReviewDto> findFirstReviewPage(@Param("foodId") Long foodId, Limit limit);
+
+    @Query(REVIEW + "where r.food.id = :foodId " +
+            "and (r.createDate < :createDate or (r.createDate = :createDate and r.id < :reviewId) or r.createDate is null) " +
+            "order by r.createDate desc, r.id desc")
+    List<ReviewDto> findReviewPageAfter(@Param("foodId") Long foodId, @Param("createDate") LocalDateTime createDate,
+                                        @Param("reviewId") Long reviewId, Limit limit);
+
+    @Query(REVIEW + "where r.food.id = :foodId and r.createDate is null and r.id < :reviewId order by r.id desc")
+    List<ReviewDto> findUndatedReviewPageAfter(@Param("foodId") Long foodId, @Param("reviewId") Long reviewId, Limit limit);
+
+    //내보내기용 [id, 음식 id, 회원 id, 별점, 매운맛 단계, 추천, 비추천, 사진, 내용, 작성 시각, 수정 시각] 전체 스트림(id 순)
+    //food/member를 조인하지 않고 외래 키만 읽음, 스트림을 닫을 때까지 트랜잭션이 열려 있어야 함
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000")) // 드라이버가 결과를 1000행씩 나눠 받음
+    @Query("select r.id, r.food.id, r.member.id, r.rating, r.spicyLevel, r.upvote, r.downvote, r.imgUrl, r.content, " +
+            "r.createDate, r.updateDate from Review r order by r.id")
+    Stream<Object[]> streamAllForExport();
 }
@@ -2,8 +2,17 @@ package core.backend.repository;
 
 import core.backend.domain.SpicyScale;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SpicyScaleRepository extends JpaRepository<SpicyScale, Long> {
+
+    //기준표 변경 감지용 [행 수, 행별 CRC32 합] 한 행
+    //행마다 id, 이름, 스코빌을 함께 체크섬하므로 같은 길이의 이름 변경이나 두 기준의 스코빌 맞바꿈도 감지
+    @Query(value = "SELECT COUNT(*), COALESCE(SUM(CRC32(CONCAT_WS('|', spicyscale_id, name, scoville))), 0) " +
+            "FROM spicy_scale", nativeQuery = true)
+    List<Object[]> fingerprint();
 }
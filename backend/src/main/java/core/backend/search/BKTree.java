@@ -0,0 +1,106 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//편집 거리(Levenshtein) BK-tree
+//자식 간선에 부모와의 거리를 두고, 삼각 부등식으로 |d - 간선| <= maxDistance 인 자식만 내려가서 전체 단어를 비교하지 않음
+public final class BKTree {
+
+    private Node root;
+    private int size;
+
+    public record Match(String word, int distance) {
+    }
+
+    public void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(node.word, word, node.word.length() + word.length());
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                node.maxEdge = Math.max(node.maxEdge, distance);
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    //word와의 편집 거리가 maxDistance 이하인 단어
+    public List<Match> search(String word, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        List<Node> stack = new ArrayList<>();
+        stack.add(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.remove(stack.size() - 1);
+            //자식 간선 범위 밖이면 정확한 거리 대신 상한만 있으면 되므로 계산을 일찍 끊음
+            int distance = distance(node.word, word, maxDistance + node.maxEdge);
+            if (distance <= maxDistance) {
+                matches.add(new Match(node.word, distance));
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    stack.add(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    //Levenshtein 거리, limit를 넘는 것이 확실하면 limit + 1 반환
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    private static final class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private int maxEdge;
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package core.backend.search;
+
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//음식 검색용 메모리 역색인(이름, 영어 이름, 카테고리, 설명) + 한글 이름 초성/자모 색인 + 영어 이름 오타 허용 색인
+//서버 시작 시 한 번 만들고, 음식이 추가/수정되면 n-gram 색인은 해당 음식만 바로 다시 색인
+//초성/자모 트라이와 오타 허용 트리는 통째로 다시 만들어야 하므로, 바뀐 이름을 모아 두고 주기적으로 한 번만 다시 만듦
+//(가져오기 작업은 수천 행마다 변경 이벤트를 보내므로 이벤트마다 만들면 작업 중에 수십 번 재생성됨)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodSearchIndex {
+
+    private static final double KOREAN_NAME_WEIGHT = 2.0;
+
+    //필드 가중치: 이름 > 영어 이름 > 카테고리 > 설명
+    private final NGramIndex index = new NGramIndex(3.0, 2.5, 1.5, 0.5);
+    private final KoreanNameIndex koreanNameIndex = new KoreanNameIndex();
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final FoodRepository foodRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        putAll(foodRepository.findAllSearchRows());
+        refreshNameIndexes();
+        log.info("음식 검색 색인 생성: {}개 음식", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        putAll(foodRepository.findSearchRowsByIdIn(event.foodIds()));
+    }
+
+    //모아 둔 이름 변경이 있으면 초성/자모 트라이, 오타 허용 트리를 한 번씩 다시 만듦
+    @Scheduled(fixedDelayString = "${food.search.name-refresh-delay:5000}")
+    public void refreshNameIndexes() {
+        koreanNameIndex.rebuildIfStaged();
+        fuzzyNameIndex.rebuildIfStaged();
+    }
+
+    //관련도 순 검색 결과(점수 내림차순, 같으면 id 내림차순)
+    //한글 질의는 초성/자모 접두사 일치 점수를 더함("ㅅㄹㅁ", "신라며"처럼 n-gram으로는 안 걸리는 입력)
+    //일치하는 음식이 없으면 영어 이름 오타 허용 검색으로 대신함("tteokboki", "ramyun")
+    public List<NGramIndex.Hit> search(String query) {
+        List<NGramIndex.Hit> hits = index.search(query);
+        if (!Hangul.containsHangul(query)) {
+            return hits.isEmpty() ? fuzzyNameIndex.search(query) : hits;
+        }
+        List<NGramIndex.Hit> koreanHits = koreanNameIndex.search(query);
+        if (koreanHits.isEmpty()) {
+            return hits;
+        }
+        Map<Long, Double> merged = new HashMap<>();
+        hits.forEach(hit -> merged.merge(hit.id(), hit.score(), Double::sum));
+        koreanHits.forEach(hit -> merged.merge(hit.id(), hit.score() * KOREAN_NAME_WEIGHT, Double::sum));
+
+        List<NGramIndex.Hit> result = new ArrayList<>(merged.size());
+        merged.forEach((id, score) -> result.add(new NGramIndex.Hit(id, score)));
+        result.sort(NGramIndex.RELEVANCE);
+        return result;
+    }
+
+    //row: [id, 이름, 영어 이름, 카테고리, 설명]
+    private void putAll(List<Object[]> rows) {
+        Map<Long, String> names = new HashMap<>();
+        Map<Long, String> englishNames = new HashMap<>();
+        for (Object[] row : rows) {
+            index.put((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+            names.put((Long) row[0], (String) row[1]);
+            englishNames.put((Long) row[0], row[2] == null ? "" : (String) row[2]);
+        }
+        koreanNameIndex.stage(names); // 트라이/트리는 refreshNameIndexes에서 다시 만듦
+        fuzzyNameIndex.stage(englishNames);
+    }
+}
@@ -0,0 +1,120 @@
+package core.backend.search;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.dto.FoodSuggestionDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import core.backend.service.HeartCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//음식 이름 자동완성(한글/영어 이름의 단어 시작 접두사, 좋아요 순)
+//키 입력마다 DB LIKE 조회를 하지 않도록 노드별 상위 K개를 미리 담은 트라이로 응답
+//한글은 자모로 분해해서 넣으므로 입력 중인 음절("신라며")도 일치함
+//음식 추가/수정, 좋아요 변경은 모아 두었다가 주기적으로 트라이를 한 번만 다시 만듦(가져오기 중 이벤트마다 만들지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10; // 노드별로 저장하는 개수 = 최대 응답 개수
+
+    private static final Comparator<FoodCardDto> RANKING = Comparator.comparingInt(FoodCardDto::getHeartCount).reversed()
+            .thenComparing(FoodCardDto::getId, Comparator.reverseOrder());
+
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
+
+    private final Map<Long, FoodCardDto> foods = new HashMap<>(); // 트라이를 다시 만들 때 쓰는 원본(동기화된 메서드에서만 접근)
+    private final AtomicBoolean heartChanged = new AtomicBoolean();
+    private boolean foodsChanged; // 트라이에 아직 반영하지 않은 음식 추가/수정(동기화된 메서드에서만 접근)
+    private volatile Snapshot snapshot = new Snapshot(SuggestTrie.builder(MAX_SUGGESTIONS).build(), Map.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        foodRepository.findAllCards().forEach(card -> foods.put(card.getId(), card));
+        rebuild();
+        log.info("자동완성 트라이 생성: {}개 음식, {}개 노드", foods.size(), snapshot.trie().nodeCount());
+    }
+
+    public List<FoodSuggestionDto> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String key = Hangul.toJamo(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        List<FoodSuggestionDto> suggestions = new ArrayList<>();
+        for (long id : current.trie().top(key, Math.min(limit, MAX_SUGGESTIONS))) {
+            FoodCardDto card = current.foods().get(id);
+            suggestions.add(new FoodSuggestionDto(card.getId(), card.getName(), card.getEnglishName(), card.getHeartCount()));
+        }
+        return suggestions;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        foodRepository.findCardsByIdIn(event.foodIds()).forEach(card -> foods.put(card.getId(), card));
+        foodsChanged = true;
+    }
+
+    @EventListener
+    public void onHeartCountChanged(HeartCountChangedEvent event) {
+        heartChanged.set(true);
+    }
+
+    //음식이나 좋아요 순위가 바뀌었으면 주기적으로 트라이 재생성(변경마다 만들지 않음)
+    @Scheduled(fixedDelayString = "${food.suggest.refresh-delay:10000}")
+    public synchronized void refresh() {
+        boolean heartsChanged = heartChanged.getAndSet(false);
+        if (!heartsChanged && !foodsChanged) {
+            return;
+        }
+        if (heartsChanged) {
+            foods.replaceAll((id, card) -> card.withHeartCount(heartCounter.get(id)));
+        }
+        foodsChanged = false;
+        rebuild();
+    }
+
+    //순위 순서대로 한글/영어 이름의 단어 시작 위치마다 키를 넣음
+    private void rebuild() {
+        List<FoodCardDto> ranked = new ArrayList<>(foods.values());
+        ranked.sort(RANKING);
+        SuggestTrie.Builder builder = SuggestTrie.builder(MAX_SUGGESTIONS);
+        for (FoodCardDto card : ranked) {
+            addWordPrefixes(builder, card.getName(), card.getId());
+            addWordPrefixes(builder, card.getEnglishName(), card.getId());
+        }
+        snapshot = new Snapshot(builder.build(), Map.copyOf(foods));
+    }
+
+    private void addWordPrefixes(SuggestTrie.Builder builder, String text, long id) {
+        if (text == null) {
+            return;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i)) && (i == 0 || Character.isWhitespace(text.charAt(i - 1)))) {
+                builder.add(Hangul.toJamo(text.substring(i)), id);
+            }
+        }
+    }
+
+    private record Snapshot(SuggestTrie trie, Map<Long, FoodCardDto> foods) {
+    }
+}
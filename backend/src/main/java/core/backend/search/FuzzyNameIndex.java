@@ -0,0 +1,112 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//영어 이름 오타 허용 색인("tteokboki", "ramyun" -> Tteokbokki, Ramyeon)
+//로마자 표기를 정규화한 단어(와 공백을 뺀 이름 전체)를 BK-tree에 넣고 편집 거리로 찾음
+//이름이 바뀌면 트리를 새로 만들어 교체(연달아 바뀌면 모아서 한 번만 만듦, 조회는 잠금 없음)
+public final class FuzzyNameIndex {
+
+    private static final int MIN_WORD_LENGTH = 2; // 이보다 짧은 단어는 오타 판단이 무의미
+
+    private final Map<Long, String> names = new HashMap<>();
+    private boolean staged; // 아직 반영하지 않은 이름 변경이 있음
+    private volatile Tree tree = new Tree(new BKTree(), Map.of());
+
+    //이름 추가/교체 후 트리 재생성
+    public synchronized void putAll(Map<Long, String> changed) {
+        stage(changed);
+        rebuildIfStaged();
+    }
+
+    //이름만 바꿔 두고 트리는 rebuildIfStaged에서 한 번에 다시 만듦(가져오기처럼 변경이 연달아 올 때)
+    public synchronized void stage(Map<Long, String> changed) {
+        if (!changed.isEmpty()) {
+            names.putAll(changed);
+            staged = true;
+        }
+    }
+
+    //stage 이후 바뀐 이름이 있으면 트리 재생성
+    public synchronized boolean rebuildIfStaged() {
+        if (!staged) {
+            return false;
+        }
+        staged = false;
+        rebuild();
+        return true;
+    }
+
+    public synchronized void remove(long id) {
+        if (names.remove(id) != null) {
+            rebuild();
+        }
+    }
+
+    //질의 단어마다 가장 가까운 이름 단어의 유사도(1 - 거리/길이)를 구해 평균
+    //공백 위치가 달라도("tteok bokki") 찾도록 질의 전체를 붙인 키로도 비교해서 높은 쪽을 사용
+    public List<NGramIndex.Hit> search(String query) {
+        Tree current = tree;
+        List<String> words = Romanization.words(query);
+        words.removeIf(word -> word.length() < MIN_WORD_LENGTH);
+        if (words.isEmpty() || current.words().size() == 0) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        for (String word : words) {
+            similarities(current, word).forEach((id, similarity) -> scores.merge(id, similarity / words.size(), Double::sum));
+        }
+        if (words.size() > 1) {
+            similarities(current, String.join("", words)).forEach((id, similarity) -> scores.merge(id, similarity, Math::max));
+        }
+        List<NGramIndex.Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> hits.add(new NGramIndex.Hit(id, score)));
+        hits.sort(NGramIndex.RELEVANCE);
+        return hits;
+    }
+
+    //허용 거리: 짧은 단어는 1, 6자 이상은 2
+    static int maxDistance(String word) {
+        return word.length() < 6 ? 1 : 2;
+    }
+
+    //단어와 가까운 이름 단어를 가진 음식별 최고 유사도
+    private Map<Long, Double> similarities(Tree current, String word) {
+        Map<Long, Double> result = new HashMap<>();
+        for (BKTree.Match match : current.words().search(word, maxDistance(word))) {
+            double similarity = 1.0 - (double) match.distance() / (Math.max(word.length(), match.word().length()) + 1);
+            for (long id : current.ids().get(match.word())) {
+                result.merge(id, similarity, Math::max);
+            }
+        }
+        return result;
+    }
+
+    private void rebuild() {
+        BKTree words = new BKTree();
+        Map<String, Set<Long>> ids = new HashMap<>();
+        names.forEach((id, name) -> {
+            List<String> keys = Romanization.words(name);
+            if (keys.size() > 1) {
+                keys.add(String.join("", keys));
+            }
+            for (String key : keys) {
+                if (key.length() >= MIN_WORD_LENGTH) {
+                    words.add(key);
+                    ids.computeIfAbsent(key, k -> new HashSet<>()).add(id);
+                }
+            }
+        });
+        Map<String, long[]> frozen = new HashMap<>();
+        ids.forEach((key, set) -> frozen.put(key, set.stream().mapToLong(Long::longValue).toArray()));
+        tree = new Tree(words, frozen);
+    }
+
+    private record Tree(BKTree words, Map<String, long[]> ids) {
+    }
+}
@@ -0,0 +1,106 @@
+package core.backend.search;
+
+import java.util.Locale;
+
+//한글 음절을 초성/중성/종성 자모로 분해하는 유틸
+//겹받침(ㄺ), 겹모음(ㅘ)은 기본 자모로 풀어서, 입력 중인 글자("달" -> "닭")도 자모 접두사로 일치하게 함
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final char JAMO_BEGIN = 'ㄱ'; // 호환용 자모(U+3131)
+    private static final char JAMO_END = 'ㅣ';   // U+3163
+    private static final char CONSONANT_END = 'ㅎ';
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+            "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    //입력창에서 단독으로 들어온 겹자모(호환용 자모) 분해
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private Hangul() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    public static boolean isJamo(char c) {
+        return c >= JAMO_BEGIN && c <= JAMO_END;
+    }
+
+    //한글(음절 또는 자모)이 하나라도 있는지
+    public static boolean containsHangul(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isSyllable(text.charAt(i)) || isJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //초성만으로 된 질의인지("ㅅㄹㅁ")
+    public static boolean isChosungOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < JAMO_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //"신라면" -> "ㅅㅣㄴㄹㅏㅁㅕㄴ"(공백 제거, 한글 외 문자는 소문자로 유지)
+    public static String toJamo(String text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                jamo.append(CHOSUNG.charAt(index / 588))
+                        .append(JUNGSUNG[(index % 588) / 28])
+                        .append(JONGSUNG[index % 28]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    jamo.append(COMPOUND_JAMO_PARTS[compound]);
+                } else {
+                    jamo.append(Character.toLowerCase(c));
+                }
+            }
+        }
+        return jamo.toString();
+    }
+
+    //"신라면" -> "ㅅㄹㅁ"(공백 제거, 한글 외 문자는 소문자로 유지)
+    public static String toChosung(String text) {
+        StringBuilder chosung = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            chosung.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BEGIN) / 588) : Character.toLowerCase(c));
+        }
+        return chosung.toString();
+    }
+
+    //공백 제거 + 소문자(질의 정규화)
+    public static String compact(String text) {
+        return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+}
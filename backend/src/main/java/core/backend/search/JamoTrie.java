@@ -0,0 +1,140 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//문자열 키 -> id 목록을 담는 불변 배열 트라이
+//노드를 DFS 전위 순서로 번호 매기고 id를 노드 순서대로 이어 붙여서,
+//접두사에 해당하는 노드의 하위 트리 id 전체가 postings 배열의 연속 구간이 됨(결과 수집 O(1) 구간 지정)
+public final class JamoTrie {
+
+    private final int[] childStart;  // 노드별 자식 구간 시작(childLabels/childNodes 인덱스), 길이 = 노드 수 + 1
+    private final char[] childLabels; // 노드별로 정렬된 자식 글자
+    private final int[] childNodes;
+    private final int[] subtreeEnd;  // 하위 트리 마지막 노드 + 1
+    private final int[] postingStart; // 노드별 id 구간 시작, 길이 = 노드 수 + 1
+    private final long[] postings;
+
+    private JamoTrie(int[] childStart, char[] childLabels, int[] childNodes, int[] subtreeEnd,
+                     int[] postingStart, long[] postings) {
+        this.childStart = childStart;
+        this.childLabels = childLabels;
+        this.childNodes = childNodes;
+        this.subtreeEnd = subtreeEnd;
+        this.postingStart = postingStart;
+        this.postings = postings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    //prefix로 시작하는 모든 키의 id(같은 id가 여러 번 나올 수 있음)
+    public long[] prefix(String prefix) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = child(node, prefix.charAt(i));
+        }
+        if (node < 0) {
+            return new long[0];
+        }
+        int from = postingStart[node];
+        int to = postingStart[subtreeEnd[node]];
+        long[] ids = new long[to - from];
+        System.arraycopy(postings, from, ids, 0, ids.length);
+        return ids;
+    }
+
+    public int nodeCount() {
+        return subtreeEnd.length;
+    }
+
+    //자식 글자 이진 탐색
+    private int child(int node, char label) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = childLabels[mid];
+            if (c < label) {
+                low = mid + 1;
+            } else if (c > label) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+        private final Node root = new Node();
+        private int nodeCount = 1;
+
+        public Builder add(String key, long id) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                Node parent = node;
+                node = parent.children.get(key.charAt(i));
+                if (node == null) {
+                    node = new Node();
+                    parent.children.put(key.charAt(i), node);
+                    nodeCount++;
+                }
+            }
+            node.ids.add(id);
+            return this;
+        }
+
+        public JamoTrie build() {
+            List<Node> order = new ArrayList<>(nodeCount);
+            number(root, order);
+
+            int[] childStart = new int[nodeCount + 1];
+            char[] childLabels = new char[nodeCount - 1];
+            int[] childNodes = new int[nodeCount - 1];
+            int[] subtreeEnd = new int[nodeCount];
+            int[] postingStart = new int[nodeCount + 1];
+            int postingCount = order.stream().mapToInt(n -> n.ids.size()).sum();
+            long[] postings = new long[postingCount];
+
+            int child = 0;
+            int posting = 0;
+            for (int index = 0; index < nodeCount; index++) {
+                Node node = order.get(index);
+                childStart[index] = child;
+                for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                    childLabels[child] = entry.getKey();
+                    childNodes[child++] = entry.getValue().index;
+                }
+                subtreeEnd[index] = node.subtreeEnd;
+                postingStart[index] = posting;
+                for (long id : node.ids) {
+                    postings[posting++] = id;
+                }
+            }
+            childStart[nodeCount] = child;
+            postingStart[nodeCount] = posting;
+            return new JamoTrie(childStart, childLabels, childNodes, subtreeEnd, postingStart, postings);
+        }
+
+        //DFS 전위 순서로 번호 부여
+        private void number(Node node, List<Node> order) {
+            node.index = order.size();
+            order.add(node);
+            for (Node child : node.children.values()) {
+                number(child, order);
+            }
+            node.subtreeEnd = order.size();
+        }
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final List<Long> ids = new ArrayList<>(1);
+        private int index;
+        private int subtreeEnd;
+    }
+}
@@ -0,0 +1,98 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//음식 한글 이름의 초성/자모 색인("ㅅㄹㅁ", "신라며", "라면" -> 신라면)
+//이름의 각 글자 위치에서 시작하는 접미사를 자모/초성 트라이에 넣어서 이름 중간부터 입력해도 찾음
+//트라이는 불변 배열이라 이름이 바뀌면 새로 만들어 교체(연달아 바뀌면 모아서 한 번만 만듦, 조회는 잠금 없음)
+public final class KoreanNameIndex {
+
+    private static final double PREFIX_BONUS = 1.0; // 이름 맨 앞부터 일치하면 가산점
+
+    private final Map<Long, String> names = new HashMap<>();
+    private boolean staged; // 아직 반영하지 않은 이름 변경이 있음
+    private volatile Tries tries = new Tries(JamoTrie.builder().build(), JamoTrie.builder().build(), Map.of(), Map.of());
+
+    //이름 추가/교체 후 트라이 재생성
+    public synchronized void putAll(Map<Long, String> changed) {
+        stage(changed);
+        rebuildIfStaged();
+    }
+
+    //이름만 바꿔 두고 트라이는 rebuildIfStaged에서 한 번에 다시 만듦(가져오기처럼 변경이 연달아 올 때)
+    public synchronized void stage(Map<Long, String> changed) {
+        if (!changed.isEmpty()) {
+            names.putAll(changed);
+            staged = true;
+        }
+    }
+
+    //stage 이후 바뀐 이름이 있으면 트라이 재생성
+    public synchronized boolean rebuildIfStaged() {
+        if (!staged) {
+            return false;
+        }
+        staged = false;
+        rebuild();
+        return true;
+    }
+
+    public synchronized void remove(long id) {
+        if (names.remove(id) != null) {
+            rebuild();
+        }
+    }
+
+    //초성만 입력하면 초성 트라이, 그 외에는 자모 트라이에서 접두사 검색
+    //점수: 이름에서 질의가 차지하는 비율 + 이름 맨 앞 일치 가산점
+    public List<NGramIndex.Hit> search(String query) {
+        String compact = Hangul.compact(query);
+        if (compact.isEmpty() || !Hangul.containsHangul(compact)) {
+            return List.of();
+        }
+        Tries current = tries;
+        boolean chosung = Hangul.isChosungOnly(compact);
+        String key = chosung ? compact : Hangul.toJamo(compact);
+        Map<Long, String> fullKeys = chosung ? current.chosungNames : current.jamoNames;
+        long[] ids = (chosung ? current.chosung : current.jamo).prefix(key);
+
+        Set<Long> seen = new LinkedHashSet<>();
+        List<NGramIndex.Hit> hits = new ArrayList<>();
+        for (long id : ids) {
+            String fullKey = fullKeys.get(id);
+            if (fullKey == null || !seen.add(id)) {
+                continue;
+            }
+            double score = (double) key.length() / fullKey.length() + (fullKey.startsWith(key) ? PREFIX_BONUS : 0);
+            hits.add(new NGramIndex.Hit(id, score));
+        }
+        hits.sort(NGramIndex.RELEVANCE);
+        return hits;
+    }
+
+    private void rebuild() {
+        JamoTrie.Builder jamo = JamoTrie.builder();
+        JamoTrie.Builder chosung = JamoTrie.builder();
+        Map<Long, String> jamoNames = new HashMap<>();
+        Map<Long, String> chosungNames = new HashMap<>();
+        names.forEach((id, name) -> {
+            String compact = Hangul.compact(name);
+            for (int i = 0; i < compact.length(); i++) {
+                String suffix = compact.substring(i);
+                jamo.add(Hangul.toJamo(suffix), id);
+                chosung.add(Hangul.toChosung(suffix), id);
+            }
+            jamoNames.put(id, Hangul.toJamo(compact));
+            chosungNames.put(id, Hangul.toChosung(compact));
+        });
+        tries = new Tries(jamo.build(), chosung.build(), jamoNames, chosungNames);
+    }
+
+    private record Tries(JamoTrie jamo, JamoTrie chosung, Map<Long, String> jamoNames, Map<Long, String> chosungNames) {
+    }
+}
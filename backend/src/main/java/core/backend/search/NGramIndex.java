@@ -0,0 +1,196 @@
+package core.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//여러 필드를 가진 문서에 대한 글자 n-gram(bigram) 역색인 + BM25 점수
+//한글은 띄어쓰기/조사가 일정하지 않아서 형태소 대신 두 글자 단위로 색인함
+//문서 추가/삭제는 해당 문서의 gram만 고치므로 전체를 다시 만들 필요 없음
+public final class NGramIndex {
+
+    //점수 내림차순, 같으면 id 내림차순
+    public static final Comparator<Hit> RELEVANCE = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::id).reversed());
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double MIN_COVERAGE = 0.5; // 질의 gram 중 절반 이상 일치해야 결과에 포함
+
+    private final double[] fieldWeights;
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>(); // gram -> 문서 -> 필드별 출현 횟수
+    private final Map<Long, int[]> docLengths = new HashMap<>(); // 문서 -> 필드별 gram 개수
+    private final Map<Long, Set<String>> docGrams = new HashMap<>(); // 삭제용
+    private final long[] totalLengths;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NGramIndex(double... fieldWeights) {
+        this.fieldWeights = fieldWeights.clone();
+        this.totalLengths = new long[fieldWeights.length];
+    }
+
+    public record Hit(long id, double score) {
+    }
+
+    //문서 추가 또는 교체(fields 순서는 생성자의 가중치 순서와 같음)
+    public void put(long id, String... fields) {
+        if (fields.length != fieldWeights.length) {
+            throw new IllegalArgumentException("필드 개수가 맞지 않습니다: " + fields.length);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int[] lengths = new int[fields.length];
+            Set<String> grams = new HashSet<>();
+            for (int field = 0; field < fields.length; field++) {
+                for (String gram : grams(fields[field], true)) {
+                    postings.computeIfAbsent(gram, g -> new HashMap<>())
+                            .computeIfAbsent(id, d -> new int[fieldWeights.length])[field]++;
+                    grams.add(gram);
+                    lengths[field]++;
+                }
+                totalLengths[field] += lengths[field];
+            }
+            docLengths.put(id, lengths);
+            docGrams.put(id, grams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //질의와 일치하는 문서를 점수 순으로 반환
+    public List<Hit> search(String query) {
+        Set<String> queryGrams = new LinkedHashSet<>(grams(query, false));
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int docCount = docLengths.size();
+            double[] avgLengths = new double[fieldWeights.length];
+            for (int field = 0; field < fieldWeights.length; field++) {
+                avgLengths[field] = docCount > 0 ? Math.max(1.0, (double) totalLengths[field] / docCount) : 1.0;
+            }
+
+            Map<Long, double[]> scores = new HashMap<>(); // 문서 -> [점수, 일치한 질의 gram 수]
+            for (String queryGram : queryGrams) {
+                //한 글자 질의는 그 글자로 시작하는 gram 전체로 확장
+                Map<String, Map<Long, int[]>> matched = queryGram.length() == 1
+                        ? postings.subMap(queryGram, true, queryGram + Character.MAX_VALUE, false)
+                        : postingsOf(queryGram);
+                Set<Long> seen = new HashSet<>();
+                for (Map<Long, int[]> docs : matched.values()) {
+                    for (Map.Entry<Long, int[]> doc : docs.entrySet()) {
+                        double[] score = scores.computeIfAbsent(doc.getKey(), d -> new double[2]);
+                        score[0] += bm25(doc.getValue(), docLengths.get(doc.getKey()), docs.size(), docCount, avgLengths);
+                        if (seen.add(doc.getKey())) {
+                            score[1]++;
+                        }
+                    }
+                }
+            }
+
+            int required = (int) Math.ceil(queryGrams.size() * MIN_COVERAGE);
+            List<Hit> hits = new ArrayList<>();
+            scores.forEach((id, score) -> {
+                if (score[1] >= required) {
+                    hits.add(new Hit(id, score[0] * score[1] / queryGrams.size()));
+                }
+            });
+            hits.sort(RELEVANCE);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //소문자, 유니코드 정규화 후 글자/숫자 토큰별 bigram(한 글자 토큰은 그대로)
+    //색인할 때는 토큰 마지막 글자도 넣어서, 한 글자 질의가 어느 위치의 글자든 gram 접두사 범위로 찾을 수 있게 함
+    static List<String> grams(String text, boolean forIndex) {
+        List<String> grams = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (token.length() == 1) {
+                grams.add(token);
+            } else if (forIndex && !token.isEmpty()) {
+                grams.add(token.substring(token.length() - 1));
+            }
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private Map<String, Map<Long, int[]>> postingsOf(String gram) {
+        Map<Long, int[]> docs = postings.get(gram);
+        return docs != null ? Map.of(gram, docs) : Map.of();
+    }
+
+    //필드별 BM25 점수에 가중치를 곱해 합산
+    private double bm25(int[] termFrequencies, int[] lengths, int docFrequency, int docCount, double[] avgLengths) {
+        double idf = Math.log(1 + (docCount - docFrequency + 0.5) / (docFrequency + 0.5));
+        double score = 0;
+        for (int field = 0; field < fieldWeights.length; field++) {
+            int tf = termFrequencies[field];
+            if (tf == 0) {
+                continue;
+            }
+            double norm = tf + K1 * (1 - B + B * lengths[field] / avgLengths[field]);
+            score += fieldWeights[field] * idf * tf * (K1 + 1) / norm;
+        }
+        return score;
+    }
+
+    private void removeLocked(long id) {
+        Set<String> grams = docGrams.remove(id);
+        int[] lengths = docLengths.remove(id);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Map<Long, int[]> docs = postings.get(gram);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        for (int field = 0; field < lengths.length; field++) {
+            totalLengths[field] -= lengths[field];
+        }
+    }
+}
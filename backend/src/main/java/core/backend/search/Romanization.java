@@ -0,0 +1,56 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//한국어 로마자 표기 변형 정규화(tteokbokki/ddukbokki/topokki, ramyeon/ramyun, gimchi/kimchi)
+//같은 발음을 여러 철자로 쓰는 부분을 한 표기로 모아서, 남은 차이만 편집 거리로 처리
+public final class Romanization {
+
+    //순서대로 적용(모음 조합 -> 자음 조합)
+    private static final String[][] VARIANTS = {
+            {"eo", "o"}, {"eu", "u"}, {"oo", "u"}, {"ae", "e"}, {"ee", "i"},
+            {"ch", "j"}, {"sh", "s"}, {"ph", "p"}, {"ck", "k"},
+    };
+
+    private Romanization() {
+    }
+
+    //영문 단어별 정규화 키(영문자가 없는 단어는 제외)
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.split("[^A-Za-z]+")) {
+            if (!word.isEmpty()) {
+                words.add(normalize(word));
+            }
+        }
+        return words;
+    }
+
+    //영문자만 남기고 소문자로 바꾼 뒤 표기 변형을 하나로 모음
+    //평음/유성음 구분(g/k, d/t, b/p, r/l)은 표기마다 달라서 없애고, 겹자음(tt, kk, jj)은 한 글자로 줄임
+    public static String normalize(String text) {
+        String key = text.toLowerCase(Locale.ROOT).replaceAll("[^a-z]", "");
+        for (String[] variant : VARIANTS) {
+            key = key.replace(variant[0], variant[1]);
+        }
+        StringBuilder sb = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = switch (key.charAt(i)) {
+                case 'g' -> 'k';
+                case 'd' -> 't';
+                case 'b' -> 'p';
+                case 'r' -> 'l';
+                default -> key.charAt(i);
+            };
+            if (sb.isEmpty() || sb.charAt(sb.length() - 1) != c) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,163 @@
+package core.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//자동완성용 압축(radix) 트라이, 노드마다 상위 K개 id를 미리 저장
+//키를 순위 순서대로 넣으면 각 노드에 먼저 도착한 K개가 곧 그 접두사의 상위 K개가 되므로 정렬 없이 만들어짐
+//자식이 하나뿐인 노드 체인은 한 간선으로 합치고(상위 K개가 같음), 결과는 배열로 고정해 조회 시 객체를 만들지 않음
+public final class SuggestTrie {
+
+    private final int[] childStart; // 노드별 자식 구간, 길이 = 노드 수 + 1
+    private final char[] childFirst; // 자식 간선 첫 글자(정렬됨)
+    private final int[] childNodes;
+    private final String[] labels;   // 부모에서 이 노드로 오는 간선 문자열
+    private final int[] topStart;    // 노드별 상위 K개 구간, 길이 = 노드 수 + 1
+    private final long[] top;
+
+    private SuggestTrie(int[] childStart, char[] childFirst, int[] childNodes, String[] labels, int[] topStart, long[] top) {
+        this.childStart = childStart;
+        this.childFirst = childFirst;
+        this.childNodes = childNodes;
+        this.labels = labels;
+        this.topStart = topStart;
+        this.top = top;
+    }
+
+    //k: 노드마다 저장할 최대 개수
+    public static Builder builder(int k) {
+        return new Builder(k);
+    }
+
+    //prefix로 시작하는 키의 상위 limit개 id(순위 순서)
+    public long[] top(String prefix, int limit) {
+        int node = 0;
+        int i = 0;
+        while (i < prefix.length()) {
+            int child = child(node, prefix.charAt(i));
+            if (child < 0) {
+                return new long[0];
+            }
+            String label = labels[child];
+            int length = Math.min(label.length(), prefix.length() - i);
+            if (!prefix.regionMatches(i, label, 0, length)) {
+                return new long[0];
+            }
+            i += length;
+            node = child;
+        }
+        int from = topStart[node];
+        int count = Math.min(limit, topStart[node + 1] - from);
+        long[] ids = new long[count];
+        System.arraycopy(top, from, ids, 0, count);
+        return ids;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char first) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char c = childFirst[mid];
+            if (c < first) {
+                low = mid + 1;
+            } else if (c > first) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return -1;
+    }
+
+    public static final class Builder {
+        private final int k;
+        private final Node root = new Node();
+
+        private Builder(int k) {
+            this.k = k;
+        }
+
+        //반드시 순위가 높은 것부터 넣어야 함
+        public Builder add(String key, long id) {
+            Node node = root;
+            node.offer(id, k);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.offer(id, k);
+            }
+            node.terminal = true;
+            return this;
+        }
+
+        public SuggestTrie build() {
+            List<Node> order = new ArrayList<>();
+            List<String> labels = new ArrayList<>();
+            compress(root, "", order, labels);
+
+            int nodeCount = order.size();
+            int[] childStart = new int[nodeCount + 1];
+            char[] childFirst = new char[nodeCount - 1];
+            int[] childNodes = new int[nodeCount - 1];
+            int[] topStart = new int[nodeCount + 1];
+            long[] top = new long[order.stream().mapToInt(n -> n.top.size()).sum()];
+
+            int child = 0;
+            int position = 0;
+            for (int index = 0; index < nodeCount; index++) {
+                Node node = order.get(index);
+                childStart[index] = child;
+                for (Node next : node.compressedChildren) {
+                    childFirst[child] = labels.get(next.index).charAt(0);
+                    childNodes[child++] = next.index;
+                }
+                topStart[index] = position;
+                for (long id : node.top) {
+                    top[position++] = id;
+                }
+            }
+            childStart[nodeCount] = child;
+            topStart[nodeCount] = position;
+            return new SuggestTrie(childStart, childFirst, childNodes, labels.toArray(new String[0]), topStart, top);
+        }
+
+        //자식이 하나이고 키 끝이 아닌 노드는 간선을 이어 붙여서 건너뜀
+        private void compress(Node node, String label, List<Node> order, List<String> labels) {
+            node.index = order.size();
+            order.add(node);
+            labels.add(label);
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                StringBuilder edge = new StringBuilder().append(entry.getKey());
+                Node next = entry.getValue();
+                while (!next.terminal && next.children.size() == 1) {
+                    Map.Entry<Character, Node> only = next.children.firstEntry();
+                    edge.append(only.getKey());
+                    next = only.getValue();
+                }
+                node.compressedChildren.add(next);
+                compress(next, edge.toString(), order, labels);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final List<Node> compressedChildren = new ArrayList<>();
+        private final List<Long> top = new ArrayList<>(1);
+        private boolean terminal;
+        private int index;
+
+        //상위 K개가 차지 않았고 이미 들어간 id가 아니면 추가
+        private void offer(long id, int k) {
+            if (top.size() < k && !top.contains(id)) {
+                top.add(id);
+            }
+        }
+    }
+}
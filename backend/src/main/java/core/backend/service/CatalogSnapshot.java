@@ -0,0 +1,128 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+//음식 카탈로그 불변 스냅샷(카테고리별 인덱스 + 최신순/인기순 정렬, 스코빌 범위 인덱스를 미리 만들어 둠, 조회 시 정렬 없음)
+//변경이 생기면 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 사용
+final class CatalogSnapshot {
+
+    //최신순: id 내림차순
+    static final Comparator<FoodCardDto> NEWEST = Comparator.comparing(FoodCardDto::getId, Comparator.reverseOrder());
+    //인기순: 좋아요 수 내림차순, 같으면 id 내림차순(PopularFoodLeaderboard와 같은 기준)
+    static final Comparator<FoodCardDto> POPULAR = Comparator.comparingInt(FoodCardDto::getHeartCount).reversed()
+            .thenComparing(NEWEST);
+    //매운순: 스코빌 지수 내림차순, 같으면 id 내림차순
+    static final Comparator<FoodCardDto> SCOVILLE = Comparator.comparingInt(ScovilleIndex::scovilleOf).reversed()
+            .thenComparing(NEWEST);
+
+    static final CatalogSnapshot EMPTY = of(List.of());
+
+    private final Map<Long, FoodCardDto> byId;
+    private final List<FoodCardDto> newest;
+    private final List<FoodCardDto> popular;
+    private final Map<String, List<FoodCardDto>> newestByCategory;
+    private final Map<String, List<FoodCardDto>> popularByCategory;
+    private final ScovilleIndex scoville;
+    private final Map<String, ScovilleIndex> scovilleByCategory;
+
+    private CatalogSnapshot(Map<Long, FoodCardDto> byId) {
+        this.byId = Map.copyOf(byId);
+        this.newest = sorted(byId.values(), NEWEST);
+        this.popular = sorted(byId.values(), POPULAR);
+        this.newestByCategory = groupByCategory(newest);
+        this.popularByCategory = groupByCategory(popular);
+        this.scoville = new ScovilleIndex(newest);
+        Map<String, ScovilleIndex> scovilleByCategory = new HashMap<>();
+        newestByCategory.forEach((category, cards) -> scovilleByCategory.put(category, new ScovilleIndex(cards)));
+        this.scovilleByCategory = Map.copyOf(scovilleByCategory);
+    }
+
+    static CatalogSnapshot of(Collection<FoodCardDto> cards) {
+        Map<Long, FoodCardDto> byId = new HashMap<>();
+        cards.forEach(card -> byId.put(card.getId(), card));
+        return new CatalogSnapshot(byId);
+    }
+
+    //일부 카드만 교체/추가한 새 스냅샷
+    CatalogSnapshot with(Collection<FoodCardDto> changed) {
+        Map<Long, FoodCardDto> next = new HashMap<>(byId);
+        changed.forEach(card -> next.put(card.getId(), card));
+        return new CatalogSnapshot(next);
+    }
+
+    FoodCardDto get(Long foodId) {
+        return byId.get(foodId);
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    //category가 null이면 전체
+    List<FoodCardDto> newest(String category) {
+        return category != null ? newestByCategory.getOrDefault(category, List.of()) : newest;
+    }
+
+    List<FoodCardDto> popular(String category) {
+        return category != null ? popularByCategory.getOrDefault(category, List.of()) : popular;
+    }
+
+    //카테고리(null이면 전체), 스코빌 범위(null이면 제한 없음)로 거른 목록에서 after 다음부터 sort 순서로 최대 limit개
+    //after는 커서 위치의 비교용 카드(FoodSort.probe, null이면 처음부터), 요청마다 정렬하지 않음
+    //매운순이거나 범위가 없으면 미리 정렬된 목록에서 구간만 자르고,
+    //최신순/인기순 + 범위면 미리 정렬된 목록을 커서 위치부터 읽으면서 범위 밖 카드만 건너뜀
+    List<FoodCardDto> page(String category, FoodSort sort, Integer minScoville, Integer maxScoville,
+                           FoodCardDto after, int limit) {
+        boolean ranged = minScoville != null || maxScoville != null;
+        List<FoodCardDto> ordered;
+        if (sort == FoodSort.SCOVILLE) {
+            ScovilleIndex index = (category != null) ? scovilleByCategory.get(category) : scoville;
+            ordered = (index == null) ? List.of() : index.range(minScoville, maxScoville);
+        } else {
+            ordered = (sort == FoodSort.POPULAR) ? popular(category) : newest(category);
+        }
+        int from = (after == null) ? 0 : positionAfter(ordered, after, sort.getOrder());
+        if (sort == FoodSort.SCOVILLE || !ranged) {
+            return ordered.subList(from, Math.min(ordered.size(), from + limit));
+        }
+        List<FoodCardDto> page = new ArrayList<>(limit);
+        for (int i = from; i < ordered.size() && page.size() < limit; i++) {
+            FoodCardDto card = ordered.get(i);
+            int value = ScovilleIndex.scovilleOf(card);
+            if ((minScoville == null || value >= minScoville) && (maxScoville == null || value <= maxScoville)) {
+                page.add(card);
+            }
+        }
+        return page;
+    }
+
+    //정렬된 목록에서 probe 바로 다음 위치(이진 탐색)
+    private static int positionAfter(List<FoodCardDto> ordered, FoodCardDto probe, Comparator<FoodCardDto> order) {
+        int found = Collections.binarySearch(ordered, probe, order);
+        return (found >= 0) ? found + 1 : -found - 1;
+    }
+
+    private static List<FoodCardDto> sorted(Collection<FoodCardDto> cards, Comparator<FoodCardDto> order) {
+        List<FoodCardDto> list = new ArrayList<>(cards);
+        list.sort(order);
+        return List.copyOf(list);
+    }
+
+    //정렬된 목록을 카테고리별로 나눔(순서 유지)
+    private static Map<String, List<FoodCardDto>> groupByCategory(List<FoodCardDto> ordered) {
+        Map<String, List<FoodCardDto>> grouped = ordered.stream()
+                .collect(Collectors.groupingBy(FoodCardDto::getCategory, Collectors.toList()));
+        Map<String, List<FoodCardDto>> result = new HashMap<>();
+        grouped.forEach((category, cards) -> result.put(category, List.copyOf(cards)));
+        return Map.copyOf(result);
+    }
+}
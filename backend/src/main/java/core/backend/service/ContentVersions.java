@@ -0,0 +1,71 @@
+package core.backend.service;
+
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.event.ReviewChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+//조건부 GET(ETag)용 버전 번호(카탈로그 전체, 음식별)
+//응답 본문을 해싱하지 않고 메모리 카운터만 비교하므로 304 응답은 DB 조회, 직렬화 없이 끝남
+//서버가 재시작되면 카운터가 0부터 다시 시작하므로 시작 시각(epoch)을 ETag에 포함해서 이전 ETag와 겹치지 않게 함
+@Component
+public class ContentVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final AtomicLong allFoodsVersion = new AtomicLong(); // 모든 음식 상세에 영향을 주는 변경(매운맛 기준표 등)
+    private final Map<Long, AtomicLong> foodVersions = new ConcurrentHashMap<>();
+
+    public long catalog() {
+        return catalogVersion.get();
+    }
+
+    //음식별 버전 + 전체 버전(둘 다 증가만 하므로 합도 증가만 함)
+    public long food(Long foodId) {
+        AtomicLong version = foodVersions.get(foodId);
+        return (version == null ? 0 : version.get()) + allFoodsVersion.get();
+    }
+
+    public String catalogETag(long version) {
+        return "\"c-" + epoch + "-" + version + "\"";
+    }
+
+    public String foodETag(Long foodId, long version) {
+        return "\"f-" + epoch + "-" + foodId + "-" + version + "\"";
+    }
+
+    //카탈로그 스냅샷을 교체한 뒤 호출(ETag가 본문보다 앞서지 않도록)
+    void bumpCatalog() {
+        catalogVersion.incrementAndGet();
+    }
+
+    //모든 음식 상세가 바뀌는 변경 후 호출
+    void bumpAllFoods() {
+        allFoodsVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        event.foodIds().forEach(this::bumpFood);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        bumpFood(event.foodId());
+    }
+
+    @EventListener
+    public void onHeartCountChanged(HeartCountChangedEvent event) {
+        bumpFood(event.foodId());
+    }
+
+    private void bumpFood(Long foodId) {
+        foodVersions.computeIfAbsent(foodId, id -> new AtomicLong()).incrementAndGet();
+    }
+}
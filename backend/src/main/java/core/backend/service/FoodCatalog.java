@@ -0,0 +1,82 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//GET /api/food 요청을 DB 조회, 정렬 없이 처리하기 위한 카탈로그 스냅샷 보관소
+//음식 변경(CSV 업로드 등)은 커밋 직후 바로 교체하고, 좋아요 변경은 모아서 주기적으로 인기순만 다시 정렬
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodCatalog {
+
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
+    private final ContentVersions contentVersions;
+
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
+    private final Set<Long> heartChangedIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        List<FoodCardDto> cards = foodRepository.findAllCards();
+        snapshot = CatalogSnapshot.of(cards);
+        contentVersions.bumpCatalog();
+        log.info("음식 카탈로그 스냅샷 생성: {}개 음식", cards.size());
+    }
+
+    CatalogSnapshot current() {
+        return snapshot;
+    }
+
+    //추가/수정된 음식만 다시 읽어 새 스냅샷으로 교체
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.with(foodRepository.findCardsByIdIn(event.foodIds()));
+        contentVersions.bumpCatalog();
+    }
+
+    @EventListener
+    public void onHeartCountChanged(HeartCountChangedEvent event) {
+        heartChangedIds.add(event.foodId());
+    }
+
+    //좋아요가 바뀐 음식이 있으면 인기순 재정렬(요청마다 정렬하지 않도록 짧은 주기로 모아서 처리)
+    @Scheduled(fixedDelayString = "${food.catalog.heart-refresh-delay:1000}")
+    public synchronized void refreshHeartCounts() {
+        if (heartChangedIds.isEmpty()) {
+            return;
+        }
+        CatalogSnapshot current = snapshot;
+        List<FoodCardDto> changed = new ArrayList<>();
+        for (Long foodId : heartChangedIds) {
+            heartChangedIds.remove(foodId);
+            FoodCardDto card = current.get(foodId);
+            int heartCount = heartCounter.get(foodId);
+            if (card != null && card.getHeartCount() != heartCount) {
+                changed.add(card.withHeartCount(heartCount));
+            }
+        }
+        if (!changed.isEmpty()) {
+            snapshot = current.with(changed);
+            contentVersions.bumpCatalog();
+        }
+    }
+}
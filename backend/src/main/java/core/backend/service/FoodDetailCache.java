@@ -0,0 +1,115 @@
+package core.backend.service;
+
+import core.backend.dto.FoodDetailDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//음식 상세 조회 결과 캐시(짧은 TTL + stale-while-revalidate + 요청 합치기)
+//같은 음식에 동시에 몰린 요청은 진행 중인 조회 하나를 같이 기다림(single-flight)
+//TTL이 지난 값은 stale 기간 동안 그대로 응답하고, 백그라운드에서 한 번만 다시 조회
+//항목마다 조회 시작 시점의 음식 버전을 함께 저장해서, 버전이 바뀐 항목은 쓰지 않고 ETag도 본문과 같은 버전으로 내려감
+@Slf4j
+@Component
+public class FoodDetailCache {
+
+    private final FoodService foodService;
+    private final ContentVersions contentVersions;
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService refresher;
+
+    public FoodDetailCache(FoodService foodService, ContentVersions contentVersions,
+                           @Value("${food.detail-cache.ttl:2000}") long ttlMillis,
+                           @Value("${food.detail-cache.stale:30000}") long staleMillis,
+                           @Value("${food.detail-cache.refresh-threads:2}") int refreshThreads) {
+        this.foodService = foodService;
+        this.contentVersions = contentVersions;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(staleMillis);
+        AtomicInteger sequence = new AtomicInteger();
+        this.refresher = Executors.newFixedThreadPool(refreshThreads, task -> {
+            Thread thread = new Thread(task, "food-detail-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Entry get(Long foodId) {
+        Entry entry = entries.get(foodId);
+        if (entry != null && entry.version() == contentVersions.food(foodId)) {
+            long age = System.nanoTime() - entry.loadedAt();
+            if (age < ttlNanos) {
+                return entry;
+            }
+            if (age < ttlNanos + staleNanos) {
+                load(foodId, refresher); // 오래된 값으로 바로 응답하고 새로 고침은 백그라운드에서
+                return entry;
+            }
+        }
+        //캐시가 없거나 음식/리뷰/좋아요가 바뀌었으면 처음 도착한 요청이 직접 조회하고 나머지는 그 결과를 기다림
+        try {
+            return load(foodId, Runnable::run).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause; // 음식 없음 등은 원래 예외로 응답
+            }
+            throw e;
+        }
+    }
+
+    //stale 기간까지 지난 항목 정리(최근에 조회된 음식만 남도록)
+    @Scheduled(fixedDelayString = "${food.detail-cache.stale:30000}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> now - entry.loadedAt() >= ttlNanos + staleNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    //음식별로 진행 중인 조회가 있으면 그것을, 없으면 새 조회를 executor에서 시작
+    private CompletableFuture<Entry> load(Long foodId, Executor executor) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> running = inFlight.putIfAbsent(foodId, created);
+        if (running != null) {
+            return running;
+        }
+        executor.execute(() -> {
+            try {
+                long version = contentVersions.food(foodId); // 조회 전에 읽어서 버전이 본문보다 앞서지 않게 함
+                Entry entry = new Entry(foodService.getFoodDetail(foodId), version, System.nanoTime());
+                entries.put(foodId, entry);
+                created.complete(entry);
+            } catch (Throwable e) {
+                if (executor == refresher) {
+                    log.warn("음식 상세 캐시 새로 고침 실패: foodId={}", foodId, e);
+                }
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(foodId, created);
+            }
+        });
+        return created;
+    }
+
+    //detail: 상세 조회 결과, version: 조회 시작 시점의 음식 버전(ETag)
+    public record Entry(FoodDetailDto detail, long version, long loadedAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package core.backend.service;
+
+import core.backend.dto.FacetCountDto;
+import core.backend.dto.FoodCardDto;
+import core.backend.dto.FoodFacetsDto;
+import core.backend.dto.RangeFacetDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//음식 목록 필터 집계(카테고리, 스코빌 구간, 좋아요 수 구간별 음식 수)
+//음식마다 현재 속한 칸을 기억해 두고, 바뀐 음식만 이전 칸에서 빼고 새 칸에 더함(전체를 다시 세지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FoodFacets {
+
+    //구간 하한(오름차순), 마지막 구간은 상한 없음
+    static final int[] SCOVILLE_BOUNDS = {0, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000};
+    static final int[] HEART_BOUNDS = {0, 1, 10, 50, 100, 500};
+
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
+
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<String, Integer> categoryCounts = new HashMap<>();
+    private final int[] scovilleCounts = new int[SCOVILLE_BOUNDS.length];
+    private final int[] heartCounts = new int[HEART_BOUNDS.length];
+    private volatile FoodFacetsDto current = snapshot();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        foodRepository.findAllCards().forEach(this::put);
+        current = snapshot();
+        log.info("음식 필터 집계 생성: {}개 음식, {}개 카테고리", cells.size(), categoryCounts.size());
+    }
+
+    public FoodFacetsDto current() {
+        return current;
+    }
+
+    //CSV 업로드, 음식 수정 등으로 추가/변경된 음식 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        foodRepository.findCardsByIdIn(event.foodIds()).forEach(this::put);
+        current = snapshot();
+    }
+
+    //좋아요 수 구간이 바뀐 경우에만 집계를 옮김
+    @EventListener
+    public synchronized void onHeartCountChanged(HeartCountChangedEvent event) {
+        Cell cell = cells.get(event.foodId());
+        if (cell == null) {
+            return;
+        }
+        int heartBucket = bucketOf(HEART_BOUNDS, heartCounter.get(event.foodId()));
+        if (heartBucket != cell.heartBucket()) {
+            heartCounts[cell.heartBucket()]--;
+            heartCounts[heartBucket]++;
+            cells.put(event.foodId(), new Cell(cell.category(), cell.scovilleBucket(), heartBucket));
+            current = snapshot();
+        }
+    }
+
+    //구간 찾기(하한이 value 이하인 마지막 구간, 음수는 첫 구간)
+    static int bucketOf(int[] bounds, int value) {
+        int low = 0;
+        int high = bounds.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (bounds[mid] <= value) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private void put(FoodCardDto card) {
+        Cell next = new Cell(card.getCategory(), bucketOf(SCOVILLE_BOUNDS, ScovilleIndex.scovilleOf(card)),
+                bucketOf(HEART_BOUNDS, card.getHeartCount() == null ? 0 : card.getHeartCount()));
+        Cell previous = cells.put(card.getId(), next);
+        if (previous != null) {
+            categoryCounts.merge(previous.category(), -1, Integer::sum);
+            categoryCounts.remove(previous.category(), 0);
+            scovilleCounts[previous.scovilleBucket()]--;
+            heartCounts[previous.heartBucket()]--;
+        }
+        categoryCounts.merge(next.category(), 1, Integer::sum);
+        scovilleCounts[next.scovilleBucket()]++;
+        heartCounts[next.heartBucket()]++;
+    }
+
+    private FoodFacetsDto snapshot() {
+        List<FacetCountDto> categories = new ArrayList<>();
+        categoryCounts.forEach((category, count) -> categories.add(new FacetCountDto(category, count)));
+        categories.sort(Comparator.comparingInt(FacetCountDto::getCount).reversed().thenComparing(FacetCountDto::getValue));
+        return new FoodFacetsDto(cells.size(), List.copyOf(categories),
+                ranges(SCOVILLE_BOUNDS, scovilleCounts), ranges(HEART_BOUNDS, heartCounts));
+    }
+
+    private static List<RangeFacetDto> ranges(int[] bounds, int[] counts) {
+        List<RangeFacetDto> ranges = new ArrayList<>(bounds.length);
+        for (int i = 0; i < bounds.length; i++) {
+            Integer max = (i + 1 < bounds.length) ? bounds[i + 1] - 1 : null;
+            ranges.add(new RangeFacetDto(bounds[i], max, counts[i]));
+        }
+        return List.copyOf(ranges);
+    }
+
+    private record Cell(String category, int scovilleBucket, int heartBucket) {
+    }
+}
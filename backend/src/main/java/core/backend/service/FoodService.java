@@ -1,25 +1,33 @@
 package core.backend.service;
 
 import core.backend.domain.Food;
-import core.backend.domain.Review;
+import core.backend.dto.CursorPageDto;
+import core.backend.dto.FoodCardDto;
 import core.backend.dto.FoodDetailDto;
 import core.backend.dto.FoodDto;
+import core.backend.dto.FoodFacetsDto;
+import core.backend.dto.FoodSuggestionDto;
+import core.backend.dto.PageCursor;
+import core.backend.dto.SpicyStatsDto;
 import core.backend.dto.review.ReviewDto;
 import core.backend.exception.CustomException;
 import core.backend.exception.ErrorCode;
 import core.backend.repository.FoodRepository;
 import core.backend.repository.ReviewRepository;
+import core.backend.search.FoodSearchIndex;
+import core.backend.search.FoodSuggester;
+import core.backend.search.NGramIndex;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,8 +37,27 @@ public class FoodService {
 
     private final FoodRepository foodRepository;
     private final ReviewRepository reviewRepository;
+    private final HeartCounter heartCounter;
+    private final PopularFoodLeaderboard popularFoodLeaderboard;
+    private final FoodCatalog foodCatalog;
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodSuggester foodSuggester;
+    private final SpicyScaleReference spicyScaleReference;
+    private final FoodFacets foodFacets;
+    private final SimilarFoods similarFoods;
 
-    private static final int TABASCO_SCOVILLE = 3750; //타바스코 평균 스코빌
+    private static final int MAX_POPULAR_FOOD_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100; //한 번에 조회할 수 있는 음식 수
+    private static final int DETAIL_REVIEW_PAGE_SIZE = 10; //상세 조회에 포함하는 리뷰 수
+    private static final String REVIEW_CURSOR = "review";
+    private static final String SORT_RELEVANCE = "relevance";
+
+    //음식 존재 여부(카탈로그 스냅샷에 없으면 아직 반영 전일 수 있으니 DB 확인)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public boolean existsFood(Long foodId){
+        return foodCatalog.current().get(foodId) != null || foodRepository.existsById(foodId);
+    }
 
     //특정 음식 엔티티 조회
     @Transactional
@@ -48,48 +75,129 @@ public class FoodService {
         Food food = foodRepository.findById(foodId)
                 .orElseThrow(() -> new CustomException(ErrorCode.FOOD_NOT_FOUND));
 
-        //음식 리뷰 가져오기(이미 fetch join으로 가져와서 추가 쿼리 발생 없음)
-        List<ReviewDto> reviewDtos = food.getReviews().stream()
-                .map(ReviewDto::fromEntity)
-                .collect(Collectors.toList());
-//        List<Review> reviews = reviewRepository.findByFood(food);
-//        List<ReviewDto> reviewDtos = reviews.stream()
-//                .map(ReviewDto::fromEntity)
-//                .collect(Collectors.toList());
-
-        //평균 매운맛 계산(후기 기반)
-        double avgSpicyLevel = food.getReviews().stream()
-                .mapToInt(Review::getSpicyLevel) // 1~5단계 점수 가져옴
-                .average()
-                .orElse(0);
+        //음식 리뷰 첫 페이지만 가져오기(나머지는 nextReviewCursor로 /detail/{foodId}/reviews에서 조회)
+        CursorPageDto<ReviewDto> reviews = reviewPage(food.getId(), null, DETAIL_REVIEW_PAGE_SIZE);
+
+        //평균 매운맛 계산(후기 기반, 음식에 저장된 집계로 후기 수와 무관하게 계산)
+        SpicyStatsDto spicyStats = SpicyStatsDto.fromEntity(food.getSpicyStats());
+        double avgSpicyLevel = spicyStats.getAverage();
 
         String spicyLevelText = classifySpicyLevel(avgSpicyLevel);
 
-        //타바스코 소스와 비교
-        String spicinessComparison = compareSpiciness(food.getScoville());
+        //매운맛 기준표(소스, 고추)에서 바로 아래/위 기준과 비교(음식별로 미리 계산된 문구)
+        String spicinessComparison = spicyScaleReference.describe(food.getId(), food.getScoville());
 
-        //가장 인기 있는 음식(좋아요 내림차순 정렬 기준 2개 가져오기)
-        List<Food> top2MostLikedFoods = foodRepository.findTop2MostLikedFoods();
-        List<FoodDto> popularFoods = top2MostLikedFoods
-                .stream()
-                .map(FoodDto::fromEntity)
-                .collect(Collectors.toList());
-        top2MostLikedFoods.forEach(t ->
-                log.info("foodName: {}, foodId: {}, foodHeartSize: {}",
-                        t.getName(), t.getId(), t.getHeartCount()));
+        //가장 인기 있는 음식(좋아요 순위표에서 상위 2개, DB 집계 없음)
+        List<FoodDto> popularFoods = popularFoodLeaderboard.detailHead();
 
         return new FoodDetailDto(
                 food.getImgUrl(),
                 food.getName(),
                 food.getDescription(),
                 spicyLevelText, // 후기 기반 매운맛
-                spicinessComparison, // 타바스코와 비교 매운맛
-                reviewDtos, // 리뷰 리스트
+                spicinessComparison, // 기준표와 비교 매운맛
+                reviews.getItems(), // 리뷰 첫 페이지
                 popularFoods, // 인기 음식 리스트
-                food.getHeartCount()
+                heartCounter.get(food.getId()),
+                spicyStats, // 후기 매운맛 평균/분포
+                reviews.getNextCursor() // 다음 리뷰 페이지 커서
         );
     }
+
+    //음식 리뷰 페이지(최신순), 커서는 (작성 시각, 리뷰 id), 없는 음식이면 상세 조회처럼 FOOD_NOT_FOUND
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public CursorPageDto<ReviewDto> getFoodReviews(Long foodId, String cursor, int size){
+        if (!existsFood(foodId)) {
+            throw new CustomException(ErrorCode.FOOD_NOT_FOUND);
+        }
+        return reviewPage(foodId, cursor, size);
+    }
+
+    //작성 시각이 없는 리뷰는 0(1970-01-01)으로 보고 맨 뒤에 둠(DB도 내림차순에서 NULL을 맨 뒤에 정렬)
+    private CursorPageDto<ReviewDto> reviewPage(Long foodId, String cursor, int size){
+        int pageSize = pageSize(size);
+        Limit limit = Limit.of(pageSize + 1); // 한 개 더 읽어서 다음 페이지 여부 확인
+        List<ReviewDto> fetched;
+        if (cursor == null) {
+            fetched = reviewRepository.findFirstReviewPage(foodId, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor, REVIEW_CURSOR);
+            fetched = after.key() == 0
+                    ? reviewRepository.findUndatedReviewPageAfter(foodId, after.id(), limit)
+                    : reviewRepository.findReviewPageAfter(foodId, fromEpochMicros(after.key()), after.id(), limit);
+        }
+        boolean hasNext = fetched.size() > pageSize;
+        List<ReviewDto> items = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewDto last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(REVIEW_CURSOR, toEpochMicros(last.getCreateDate()), last.getReviewId()).encode();
+        }
+        return new CursorPageDto<>(List.copyOf(items), nextCursor, hasNext);
+    }
     
+    //인기 음식 목록(좋아요 순, 카테고리 필터)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<FoodDto> getPopularFoods(int limit, String category){
+        if(limit < 1){
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return popularFoodLeaderboard.top(Math.min(limit, MAX_POPULAR_FOOD_LIMIT), category);
+    }
+
+    //여러 음식 카드 한 번에 조회(요청한 id 순서, 중복 id는 한 번만, 없는 id는 제외)
+    //카탈로그 스냅샷에서 먼저 찾고, 아직 반영되지 않은 음식만 IN 쿼리 한 번으로 조회
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<FoodCardDto> getFoodsByIds(List<Long> foodIds){
+        List<Long> ids = foodIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(ErrorCode.TOO_MANY_FOOD_IDS);
+        }
+        CatalogSnapshot catalog = foodCatalog.current();
+        Map<Long, FoodCardDto> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            FoodCardDto card = catalog.get(id);
+            if (card != null) {
+                found.put(id, card);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            foodRepository.findCardsByIdIn(missing).forEach(card -> found.put(card.getId(), card));
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    //비슷한 음식 추천(좋아요 동시 발생 + 카테고리 + 스코빌 근접도, 배치로 만든 행렬에서 조회)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<FoodCardDto> getSimilarFoods(Long foodId, int limit){
+        if (limit < 1) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (!existsFood(foodId)) {
+            throw new CustomException(ErrorCode.FOOD_NOT_FOUND);
+        }
+        long[] similarIds = similarFoods.similar(foodId, limit);
+        return getFoodsByIds(Arrays.stream(similarIds).boxed().toList());
+    }
+
+    //음식 목록 필터 집계(카테고리, 스코빌 구간, 좋아요 수 구간별 음식 수), 메모리에서 바로 응답
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public FoodFacetsDto getFacets(){
+        return foodFacets.current();
+    }
+
+    //음식 이름 자동완성(한글/영어, 좋아요 순)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public List<FoodSuggestionDto> suggestFoods(String prefix, int limit){
+        if(limit < 1){
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return foodSuggester.suggest(prefix, limit);
+    }
+
     //사용자 후기 기반 평균 매운맛 계산
     private String classifySpicyLevel(double avgSpicyLevel){
         if(avgSpicyLevel >= 4){
@@ -101,104 +209,99 @@ public class FoodService {
         }
     }
 
-    //타바스코 소스와 비교한 매운맛 계산 compareScovilleWithTabasco
-    private String compareSpiciness(Integer scoville){
-        if(scoville == null) {
-            return "매운맛 정보 없음";
-        } else if (scoville > TABASCO_SCOVILLE*1.5) {
-            return"타바스코 소스 보다 완전 매운 편";
-        } else if (scoville > TABASCO_SCOVILLE*0.8){
-            return "타바스코 소스 보다 조금 더 매운 편";
-        } else if (scoville < TABASCO_SCOVILLE*0.5){
-            return "타바스코 소스 보다 안 매운 편";
-        } else {
-            return "타바스코 소스와 비슷한 편";
-        }
-    }
-
-    //csv데이터를 읽고 db에 저장
-    public void saveFoodsFromCsv(MultipartFile file){
-        if(file.isEmpty()){
-            throw new RuntimeException("CSV파일이 비어 있습니다.");
-        }
-
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))){
-            List<Food> foodList = br.lines()
-                    .skip(1)  // 첫번째 줄 건너뛰기
-                    .map(line -> {
-                        String[] data = line.split(",");
-
-                        if(data.length < 6 || data[1].trim().isEmpty()){
-                            log.info("잘못된 데이터 건너뜀: " + Arrays.toString(data));
-                            return null;
-                        }
-
-                        String name = data[1].trim();
-                        Optional<Food> existingFood = foodRepository.findByName(name);
-                        
-                        if(existingFood.isPresent()){
-                            log.info("이미 존재하는 음식 건너뜀: " + name);
-                            return null;
-                        }
-
-                        //scoville 값이 유효한 숫자인지 검사
-                        Integer scoville = null;
-                        try {
-                            if(!data[3].trim().isEmpty()){
-                                scoville = Integer.parseInt(data[3].trim());
-                            }
-                        }catch (NumberFormatException e){
-                            log.info("잘못된 scoville 값: " + data[3].trim());
-                        }
-
-                        //Food 객체 생성
-                        Food food = Food.builder()
-                                .category(data[0].trim())
-                                .name(data[1].trim())
-                                .englishName(data[2].trim())
-                                .scoville(scoville)
-                                .imgUrl(data[4].trim())
-                                .description(data[5].trim())
-                                .build();
-
-                        log.info("저장할 데이터: " + food); // 디버깅 로그 추가
-                        return food;
-
-                    })
+    //카테고리별 음식 리스트 조회, 스코빌 범위 필터, 정렬 기능(최신, 인기, 매운순), 커서 페이지네이션
+    //카탈로그 스냅샷에 미리 정렬된 목록에서 커서 위치만 이진 탐색(DB 조회 없음)
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public CursorPageDto<FoodCardDto> getFoods(String category, String sort, Integer minScoville, Integer maxScoville,
+                                               String cursor, int size){
+        if (minScoville != null && maxScoville != null && minScoville > maxScoville) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        FoodSort foodSort = FoodSort.from(sort);
+        int pageSize = pageSize(size);
+        FoodCardDto after = (cursor == null) ? null : foodSort.probe(PageCursor.decode(cursor, foodSort.getValue()));
+        List<FoodCardDto> fetched = foodCatalog.current()
+                .page(category, foodSort, minScoville, maxScoville, after, pageSize + 1); // 한 개 더 읽어서 다음 페이지 여부 확인
+        return toPage(fetched, pageSize, foodSort);
+    }
+
+    //음식 검색(이름, 영어 이름, 카테고리, 설명), 메모리 n-gram 색인 + BM25 관련도 순(DB 조회 없음)
+    //sort=new/popular면 일치한 음식을 해당 기준으로 다시 정렬
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public CursorPageDto<FoodCardDto> searchFoods(String query, String sort, String cursor, int size){
+        int pageSize = pageSize(size);
+        List<NGramIndex.Hit> hits = foodSearchIndex.search(query);
+        CatalogSnapshot catalog = foodCatalog.current();
+
+        if (sort != null && !SORT_RELEVANCE.equalsIgnoreCase(sort)) {
+            FoodSort foodSort = FoodSort.from(sort);
+            List<FoodCardDto> matched = hits.stream()
+                    .map(hit -> catalog.get(hit.id()))
                     .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+                    .sorted(foodSort.getOrder())
+                    .toList();
+            return pageOf(matched, foodSort, cursor, pageSize);
+        }
 
-            //데이터 저장
-            if(!foodList.isEmpty()) {
-                foodRepository.saveAll(foodList);
-                log.info("총 저장된 데이터 개수: " + foodList.size()); // 몇 개 저장됐는지 확인
-                }else {
-                log.info("저장할 데이터가 없습니다.");
-                }
-            } catch (Exception e){
-                throw new RuntimeException("CSV 파일을 읽는 중 오류 발생", e);
+        //관련도 순: 커서는 (점수, id)
+        int from = 0;
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor, SORT_RELEVANCE);
+            NGramIndex.Hit probe = new NGramIndex.Hit(after.id(), Double.longBitsToDouble(after.key()));
+            int found = Collections.binarySearch(hits, probe, NGramIndex.RELEVANCE);
+            from = (found >= 0) ? found + 1 : -found - 1;
+        }
+        List<FoodCardDto> items = new ArrayList<>(pageSize);
+        int next = from;
+        while (next < hits.size() && items.size() < pageSize) {
+            FoodCardDto card = catalog.get(hits.get(next++).id()); // 색인과 카탈로그 반영 시점 차이로 없을 수 있음
+            if (card != null) {
+                items.add(card);
+            }
+        }
+        boolean hasNext = next < hits.size();
+        String nextCursor = null;
+        if (hasNext) {
+            NGramIndex.Hit last = hits.get(next - 1);
+            nextCursor = new PageCursor(SORT_RELEVANCE, Double.doubleToLongBits(last.score()), last.id()).encode();
         }
+        return new CursorPageDto<>(List.copyOf(items), nextCursor, hasNext);
     }
 
-    //카테고리별 음식 리스트 조회, 정렬 기능(최신, 인기순)
-    public List<Food> getFoods(String category, String sort){
-        List<Food> foods = (category != null) ? foodRepository.findByCategory(category) : foodRepository.findAll();
-
-        // 정렬 기준 적용(기본값: 인기순)
-        if (sort == null || "popular".equalsIgnoreCase(sort)){
-            //좋아요 개수를 기준으로 내림차순 정렬
-            foods.sort(Comparator.comparingInt(Food::getHeartCount).reversed());
-        } else {
-            // 최신순 정렬 (ID 기준 내림차순)
-            foods.sort(Comparator.comparing(Food::getId).reversed());
+    //정렬된 목록에서 커서 다음 위치부터 한 페이지(시작 위치는 이진 탐색)
+    private CursorPageDto<FoodCardDto> pageOf(List<FoodCardDto> ordered, FoodSort sort, String cursor, int pageSize){
+        int from = 0;
+        if (cursor != null) {
+            PageCursor after = PageCursor.decode(cursor, sort.getValue());
+            int found = Collections.binarySearch(ordered, sort.probe(after), sort.getOrder());
+            from = (found >= 0) ? found + 1 : -found - 1;
         }
+        return toPage(ordered.subList(from, Math.min(ordered.size(), from + pageSize + 1)), pageSize, sort);
+    }
 
-        return foods;
+    //리뷰 커서의 작성 시각(DB DATETIME(6) 정밀도인 마이크로초 단위)
+    private static long toEpochMicros(LocalDateTime dateTime){
+        if (dateTime == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(Instant.EPOCH, dateTime.toInstant(ZoneOffset.UTC));
+    }
+    private static LocalDateTime fromEpochMicros(long micros){
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+    private int pageSize(int size){
+        if(size < 1){
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
-    //음식 검색(이름 또는 카테고리)
-    public List<Food> searchFoods(String query){
-        return foodRepository.findByNameContainingIgnoreCaseOrCategoryContainingIgnoreCase(query, query);
+    //pageSize + 1개까지 받은 목록을 한 페이지와 다음 커서로 나눔
+    private CursorPageDto<FoodCardDto> toPage(List<FoodCardDto> fetched, int pageSize, FoodSort sort){
+        boolean hasNext = fetched.size() > pageSize;
+        List<FoodCardDto> items = hasNext ? fetched.subList(0, pageSize) : fetched;
+        String nextCursor = hasNext ? sort.cursorOf(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageDto<>(List.copyOf(items), nextCursor, hasNext);
     }
 
 }
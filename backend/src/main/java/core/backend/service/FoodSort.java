@@ -0,0 +1,67 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.dto.PageCursor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+//음식 목록/검색 정렬 기준과 키셋 커서 변환 규칙
+@Getter
+@RequiredArgsConstructor
+public enum FoodSort {
+    //최신순: id 내림차순
+    NEW("new", CatalogSnapshot.NEWEST) {
+        @Override
+        PageCursor cursorOf(FoodCardDto card) {
+            return new PageCursor(getValue(), card.getId(), card.getId());
+        }
+
+        @Override
+        FoodCardDto probe(PageCursor cursor) {
+            return FoodCardDto.builder().id(cursor.id()).build();
+        }
+    },
+    //인기순: 좋아요 수 내림차순, id 내림차순
+    POPULAR("popular", CatalogSnapshot.POPULAR) {
+        @Override
+        PageCursor cursorOf(FoodCardDto card) {
+            return new PageCursor(getValue(), card.getHeartCount(), card.getId());
+        }
+
+        @Override
+        FoodCardDto probe(PageCursor cursor) {
+            return FoodCardDto.builder().id(cursor.id()).heartCount((int) cursor.key()).build();
+        }
+    },
+    //매운순: 스코빌 지수 내림차순, id 내림차순
+    SCOVILLE("scoville", CatalogSnapshot.SCOVILLE) {
+        @Override
+        PageCursor cursorOf(FoodCardDto card) {
+            return new PageCursor(getValue(), ScovilleIndex.scovilleOf(card), card.getId());
+        }
+
+        @Override
+        FoodCardDto probe(PageCursor cursor) {
+            return FoodCardDto.builder().id(cursor.id()).scoville((int) cursor.key()).build();
+        }
+    };
+
+    private final String value;
+    private final Comparator<FoodCardDto> order;
+
+    //페이지 마지막 카드로 다음 페이지 커서 생성
+    abstract PageCursor cursorOf(FoodCardDto card);
+
+    //커서 위치를 정렬된 목록에서 이진 탐색하기 위한 비교용 카드
+    abstract FoodCardDto probe(PageCursor cursor);
+
+    //기존 동작 유지: 값이 없거나 popular면 인기순, scoville이면 매운순, 그 외는 최신순
+    public static FoodSort from(String sort) {
+        if (sort == null || POPULAR.value.equalsIgnoreCase(sort)) {
+            return POPULAR;
+        }
+        return SCOVILLE.value.equalsIgnoreCase(sort) ? SCOVILLE : NEW;
+    }
+}
@@ -0,0 +1,35 @@
+package core.backend.service;
+
+import core.backend.repository.FoodRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+//food.heart_count를 heart 테이블과 주기적으로 대조해서 어긋난 값 보정
+//(이전 데이터 마이그레이션, 트랜잭션 밖에서 지워진 heart 등으로 생긴 차이)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartCountReconciler {
+
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
+
+    @Scheduled(fixedDelayString = "${food.heart-count.reconcile-delay:600000}")
+    @Transactional
+    public void reconcile() {
+        List<Long> mismatched = foodRepository.findHeartCountMismatches();
+        if (mismatched.isEmpty()) {
+            return;
+        }
+
+        foodRepository.recountHeartCounts(mismatched);
+        foodRepository.findHeartCountsByIdIn(mismatched)
+                .forEach(row -> heartCounter.reset((Long) row[0], ((Number) row[1]).intValue()));
+        log.warn("좋아요 수 보정: {}개 음식 {}", mismatched.size(), mismatched);
+    }
+}
@@ -0,0 +1,74 @@
+package core.backend.service;
+
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//음식별 좋아요 수 메모리 카운터
+//DB(food.heart_count)는 HeartService가 SQL로 증감하고, 이 카운터는 커밋된 변경만 따라가는 읽기용 값
+//LongAdder는 내부적으로 셀을 나눠(striped) 더하므로 인기 음식에 좋아요가 몰려도 경합이 적음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartCounter {
+
+    private final FoodRepository foodRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+    //서버 시작 시 food.heart_count 값으로 초기화
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = foodRepository.findAllHeartCounts();
+        rows.forEach(row -> {
+            LongAdder adder = new LongAdder();
+            adder.add(((Number) row[1]).intValue());
+            counts.put((Long) row[0], adder);
+        });
+        log.info("좋아요 카운터 초기화: {}개 음식", rows.size());
+    }
+
+    //현재 좋아요 수
+    public int get(Long foodId) {
+        LongAdder adder = counts.get(foodId);
+        return adder != null ? adder.intValue() : 0;
+    }
+
+    //트랜잭션이 커밋된 뒤에 카운터 반영(롤백되면 반영하지 않음)
+    public void addAfterCommit(Long foodId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(foodId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(foodId, delta);
+            }
+        });
+    }
+
+    //DB 값으로 다시 맞춤(정합성 점검 후 호출)
+    public void reset(Long foodId, int value) {
+        LongAdder adder = counts.computeIfAbsent(foodId, id -> new LongAdder());
+        adder.reset();
+        adder.add(value);
+        eventPublisher.publishEvent(new HeartCountChangedEvent(foodId));
+    }
+
+    private void add(Long foodId, int delta) {
+        counts.computeIfAbsent(foodId, id -> new LongAdder()).add(delta);
+        eventPublisher.publishEvent(new HeartCountChangedEvent(foodId));
+    }
+}
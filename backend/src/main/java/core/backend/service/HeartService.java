@@ -4,7 +4,9 @@ import java.util.List;
 import core.backend.domain.Food;
 import core.backend.domain.Heart;
 import core.backend.domain.Member;
+import core.backend.repository.FoodRepository;
 import core.backend.repository.HeartRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,6 +14,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class HeartService {
     private final HeartRepository heartRepository;
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
 
     public List<Heart> getHeartsByUser(Member member) {
         return heartRepository.findAllByMember(member);
@@ -22,15 +26,24 @@ public class HeartService {
         return heartRepository.existsByFoodAndMember(food, member);
     }
 
+    @Transactional
     public void addUser(Member member, Food food) {
         heartRepository.save(Heart.builder()
                 .member(member)
                 .food(food)
                 .build());
+        foodRepository.addHeartCount(food.getId(), 1);
+        heartCounter.addAfterCommit(food.getId(), 1);
     }
 
+    @Transactional
     public void deleteUser(Member member, Food food) {
-        heartRepository.deleteByFoodAndMember(food, member);
+        //실제로 지운 좋아요가 있을 때만 감소(중복/없는 취소 요청으로 좋아요 수가 실제보다 작아지지 않도록)
+        if (heartRepository.deleteByFoodAndMember(food, member) == 0) {
+            return;
+        }
+        foodRepository.addHeartCount(food.getId(), -1);
+        heartCounter.addAfterCommit(food.getId(), -1);
     }
 
     public List<Heart> getHeartsByFood(Food food) {
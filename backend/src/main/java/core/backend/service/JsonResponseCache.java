@@ -0,0 +1,151 @@
+package core.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+//자주 조회되는 응답의 JSON 직렬화 결과(UTF-8 byte[])와 gzip 압축본 캐시
+//항목마다 ETag(리소스 버전)를 같이 저장하고, ETag가 바뀌면(음식/리뷰/좋아요 변경으로 버전 증가) 다시 직렬화
+//ETag가 같으면 Jackson, gzip을 거치지 않고 바이트를 그대로 응답
+//원본과 gzip 본문은 바이트가 다르므로 강한 ETag를 나눔(gzip은 버전 뒤에 -gz), 조건부 요청은 둘 다 같은 버전으로 인정
+@Component
+public class JsonResponseCache {
+
+    private static final int MIN_GZIP_SIZE = 512; // 이보다 작으면 압축 이득이 없어 원본으로 응답
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final long idleNanos;
+    private final Map<String, Encoded> entries = new ConcurrentHashMap<>();
+
+    public JsonResponseCache(ObjectMapper objectMapper,
+                             @Value("${food.json-cache.max-entries:5000}") int maxEntries,
+                             @Value("${food.json-cache.idle:60000}") long idleMillis) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+    }
+
+    //항상 존재하는 리소스(목록 등)용
+    public ResponseEntity<byte[]> notModified(String ifNoneMatch, String eTag) {
+        return notModified(ifNoneMatch, eTag, () -> true);
+    }
+
+    //If-None-Match에 현재 버전(원본/gzip 어느 쪽 ETag든, W/ 접두사 무시)이 있으면 304 응답, 없으면 null
+    //*는 리소스가 있을 때만 일치로 봄(exists는 *를 받았을 때만 호출), 없으면 null을 돌려줘서 원래 404로 응답하게 함
+    public ResponseEntity<byte[]> notModified(String ifNoneMatch, String eTag, BooleanSupplier exists) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String gzipETag = gzipETag(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ((tag.equals("*") && exists.getAsBoolean()) || tag.equals(eTag) || tag.equals(gzipETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(tag.equals(gzipETag) ? gzipETag : eTag)
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .build();
+            }
+        }
+        return null;
+    }
+
+    //gzip 본문용 ETag("...-gz")
+    static String gzipETag(String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gz\"";
+    }
+
+    //key: 리소스(요청 파라미터 포함), eTag: 현재 버전, body: 캐시가 없거나 버전이 바뀌었을 때만 호출
+    public ResponseEntity<byte[]> respond(String key, String eTag, boolean acceptsGzip, Supplier<?> body) {
+        Encoded encoded = entries.get(key);
+        if (encoded == null || !encoded.eTag().equals(eTag)) {
+            encoded = encode(eTag, body.get());
+            if (entries.size() < maxEntries || entries.containsKey(key)) { // 가득 차면 저장하지 않고 응답만
+                entries.put(key, encoded);
+            }
+        }
+        encoded.touch();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip && encoded.gzip() != null) {
+            return response.eTag(gzipETag(eTag)).header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.eTag(eTag).body(encoded.json());
+    }
+
+    //한동안 조회되지 않은 항목 정리
+    @Scheduled(fixedDelayString = "${food.json-cache.idle:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        entries.values().removeIf(encoded -> now - encoded.lastAccess >= idleNanos);
+    }
+
+    private Encoded encode(String eTag, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            return new Encoded(eTag, json, json.length < MIN_GZIP_SIZE ? null : gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static final class Encoded {
+        private final String eTag;
+        private final byte[] json;
+        private final byte[] gzip;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Encoded(String eTag, byte[] json, byte[] gzip) {
+            this.eTag = eTag;
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        private String eTag() {
+            return eTag;
+        }
+
+        private byte[] json() {
+            return json;
+        }
+
+        private byte[] gzip() {
+            return gzip;
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package core.backend.service;
+
+import core.backend.dto.FoodDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+//좋아요 순 인기 음식 순위표(전체 + 카테고리별)
+//좋아요 추가/취소 때마다 해당 음식 한 건만 재배치하므로 조회는 상위 K개를 읽는 비용(O(K))만 듬
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularFoodLeaderboard {
+
+    //좋아요 수 내림차순, 같으면 id 내림차순(최근 등록 음식 우선)
+    static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::heartCount).reversed()
+            .thenComparing(Entry::foodId, Comparator.reverseOrder());
+
+    //음식 상세 응답에 들어가는 상위 음식 수(이 구간의 음식/이름/이미지가 바뀌면 모든 음식 상세 ETag를 올림)
+    static final int DETAIL_HEAD_SIZE = 2;
+
+    private final FoodRepository foodRepository;
+    private final HeartCounter heartCounter;
+    private final ContentVersions contentVersions;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> ranking = new ConcurrentSkipListSet<>(RANKING);
+    private final Map<String, NavigableSet<Entry>> rankingByCategory = new ConcurrentHashMap<>();
+    private List<DetailKey> detailKeys = List.of(); // 마지막으로 상세 ETag에 반영한 상위 음식(id, 이름, 이미지)
+    private volatile List<FoodDto> detailHead = List.of(); // 그때의 상위 음식 목록(상세 응답에 그대로 넣음)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = foodRepository.findAllRankingRows();
+        rows.forEach(this::put);
+        log.info("인기 음식 순위표 초기화: {}개 음식", rows.size());
+    }
+
+    //상위 limit개 음식(category가 없으면 전체)
+    public List<FoodDto> top(int limit, String category) {
+        NavigableSet<Entry> source = (category != null) ? rankingByCategory.get(category) : ranking;
+        List<FoodDto> result = new ArrayList<>(limit);
+        if (source == null) {
+            return result;
+        }
+        for (Entry entry : source) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry.toDto());
+        }
+        return result;
+    }
+
+    //음식 상세 응답용 상위 음식(상세 ETag를 올릴 때의 목록이므로 본문과 ETag가 항상 맞음)
+    //상위 음식의 좋아요 수만 바뀐 경우는 다시 만들지 않음(가장 많이 눌리는 음식이라, 매번 올리면 모든 상세 캐시/304가 무효화됨)
+    public List<FoodDto> detailHead() {
+        return detailHead;
+    }
+
+    //좋아요 수가 바뀐 음식만 다시 배치
+    @EventListener
+    public synchronized void onHeartCountChanged(HeartCountChangedEvent event) {
+        Entry old = entries.get(event.foodId());
+        if (old == null) {
+            return;
+        }
+        int heartCount = heartCounter.get(event.foodId());
+        if (old.heartCount() != heartCount) {
+            replace(old, old.withHeartCount(heartCount));
+        }
+    }
+
+    //새로 추가/수정된 음식 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        foodRepository.findRankingRowsByIdIn(event.foodIds()).forEach(this::put);
+    }
+
+    private synchronized void put(Object[] row) {
+        Entry entry = new Entry((Long) row[0], (String) row[1], (String) row[2], (String) row[3], ((Number) row[4]).intValue());
+        replace(entries.get(entry.foodId()), entry);
+    }
+
+    //순위를 바꾼 뒤 상세 응답의 인기 음식 구간(음식, 이름, 이미지)이 달라졌으면 목록을 바꾸고 모든 음식 상세 버전을 올림
+    //(다른 음식의 좋아요로도 상세 본문이 바뀌므로 음식별 버전만으로는 304/캐시가 오래된 목록을 내보냄)
+    private void replace(Entry old, Entry entry) {
+        replaceEntry(old, entry);
+        List<Entry> head = new ArrayList<>(DETAIL_HEAD_SIZE);
+        for (Entry e : ranking) {
+            if (head.size() >= DETAIL_HEAD_SIZE) {
+                break;
+            }
+            head.add(e);
+        }
+        List<DetailKey> keys = head.stream().map(DetailKey::of).toList();
+        if (!keys.equals(detailKeys)) {
+            detailKeys = keys;
+            detailHead = head.stream().map(Entry::toDto).toList();
+            contentVersions.bumpAllFoods(); // 목록을 바꾼 뒤에 올려서 ETag가 본문보다 앞서지 않음
+        }
+    }
+
+    private void replaceEntry(Entry old, Entry entry) {
+        if (old != null) {
+            ranking.remove(old);
+            NavigableSet<Entry> oldCategory = rankingByCategory.get(old.category());
+            if (oldCategory != null) {
+                oldCategory.remove(old);
+            }
+        }
+        entries.put(entry.foodId(), entry);
+        ranking.add(entry);
+        rankingByCategory.computeIfAbsent(entry.category(), c -> new ConcurrentSkipListSet<>(RANKING)).add(entry);
+    }
+
+    //상세 응답에서 보이는 값(좋아요 수 제외)
+    private record DetailKey(Long foodId, String name, String imgUrl) {
+        static DetailKey of(Entry entry) {
+            return new DetailKey(entry.foodId(), entry.name(), entry.imgUrl());
+        }
+    }
+
+    record Entry(Long foodId, String name, String imgUrl, String category, int heartCount) {
+        Entry withHeartCount(int heartCount) {
+            return new Entry(foodId, name, imgUrl, category, heartCount);
+        }
+
+        FoodDto toDto() {
+            return FoodDto.builder()
+                    .foodId(foodId)
+                    .foodName(name)
+                    .imgUrl(imgUrl)
+                    .heartSize(heartCount)
+                    .build();
+        }
+    }
+}
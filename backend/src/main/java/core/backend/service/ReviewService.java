@@ -14,13 +14,16 @@ import core.backend.domain.Food;
 import core.backend.domain.Member;
 import core.backend.domain.Review;
 import core.backend.dto.review.ReviewWithImagesDto;
+import core.backend.event.ReviewChangedEvent;
 import core.backend.exception.CustomException;
 import core.backend.exception.ErrorCode;
+import core.backend.repository.FoodRepository;
 import core.backend.repository.ReviewLikeRepository;
 import core.backend.repository.ReviewRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -30,6 +33,8 @@ import org.springframework.web.multipart.MultipartFile;
 public class ReviewService {
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
+    private final FoodRepository foodRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final String UPLOAD_DIR = "/home/daun/profile-images/";
 
     public List<ReviewWithImagesDto> getReviews() {
@@ -90,18 +95,26 @@ public class ReviewService {
                 .content(content)
                 .spicyLevel(spicyLevel)
                 .build();
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        foodRepository.addSpicyLevel(food.getId(), spicyLevel, 1);
+        eventPublisher.publishEvent(new ReviewChangedEvent(food.getId()));
+        return saved;
     }
 
+    @Transactional
     public void updateReview(Long reviewId, String content, Integer spicyLevel) {
         reviewRepository.findById(reviewId)
                 .map(review -> {
                     if (content != null && !content.trim().isEmpty()) {
                         review.setContent(content);
                     }
-                    if (spicyLevel != null && spicyLevel >= 1 && spicyLevel <= 5) {
+                    if (spicyLevel != null && spicyLevel >= 1 && spicyLevel <= 5 && !spicyLevel.equals(review.getSpicyLevel())) {
+                        //매운맛 집계에서 이전 단계를 빼고 새 단계를 더함
+                        foodRepository.addSpicyLevel(review.getFood().getId(), review.getSpicyLevel(), -1);
+                        foodRepository.addSpicyLevel(review.getFood().getId(), spicyLevel, 1);
                         review.setSpicyLevel(spicyLevel);
                     }
+                    eventPublisher.publishEvent(new ReviewChangedEvent(review.getFood().getId()));
                     return reviewRepository.save(review);
                 }).orElseThrow(() -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
     }
@@ -115,6 +128,8 @@ public class ReviewService {
                     log.info("리뷰 찾을 수 없음: review_id={}", reviewId);
                     return new CustomException(ErrorCode.REVIEW_NOT_FOUND);
                 });
+        foodRepository.addSpicyLevel(review.getFood().getId(), review.getSpicyLevel(), -1);
+        eventPublisher.publishEvent(new ReviewChangedEvent(review.getFood().getId()));
         review.setFood(null);
         review.setMember(null);
         reviewRepository.save(review);
@@ -133,10 +148,19 @@ public class ReviewService {
 
     @Transactional
     public void deleteAllReview(Member member) {
+        List<Review> reviews = reviewRepository.findAllByMemberId(member.getId());
+        // 매운맛 집계에서 음식/단계별로 묶어서 한 번씩 뺌
+        reviews.stream()
+                .collect(Collectors.groupingBy(review -> review.getFood().getId(),
+                        Collectors.groupingBy(Review::getSpicyLevel, Collectors.counting())))
+                .forEach((foodId, levels) -> levels.forEach((level, count) ->
+                        foodRepository.addSpicyLevel(foodId, level, -count.intValue())));
+        reviews.stream()
+                .map(review -> review.getFood().getId())
+                .distinct()
+                .forEach(foodId -> eventPublisher.publishEvent(new ReviewChangedEvent(foodId)));
         // ReviewLike 먼저 삭제
-        reviewLikeRepository.deleteAllByReviewIn(
-                reviewRepository.findAllByMemberId(member.getId())
-        );
+        reviewLikeRepository.deleteAllByReviewIn(reviews);
         // Review 삭제
         reviewRepository.deleteAllByMember(member);
         List<Review> allByMemberId = reviewRepository.findAllByMemberId(member.getId());
@@ -0,0 +1,80 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+//스코빌 지수 정렬 인덱스(정렬된 int 배열 + 이진 탐색)
+//범위 조회는 경계 두 번의 이진 탐색으로 구간만 정하고, 결과는 배열 구간을 그대로 보여주는 뷰라 복사하지 않음
+final class ScovilleIndex {
+
+    //배열 저장 순서: 스코빌 오름차순, 같으면 id 오름차순(뒤에서부터 읽으면 FoodSort.SCOVILLE 순서)
+    private static final Comparator<FoodCardDto> ASCENDING = CatalogSnapshot.SCOVILLE.reversed();
+
+    private final int[] scovilles;
+    private final FoodCardDto[] cards;
+
+    ScovilleIndex(Collection<FoodCardDto> cards) {
+        this.cards = cards.toArray(new FoodCardDto[0]);
+        Arrays.sort(this.cards, ASCENDING);
+        this.scovilles = new int[this.cards.length];
+        for (int i = 0; i < this.cards.length; i++) {
+            this.scovilles[i] = scovilleOf(this.cards[i]);
+        }
+    }
+
+    //min 이상 max 이하(null이면 제한 없음), 스코빌 내림차순
+    List<FoodCardDto> range(Integer min, Integer max) {
+        int from = (min == null) ? 0 : firstAtLeast(min);
+        int to = (max == null) ? scovilles.length : firstAtLeast(max == Integer.MAX_VALUE ? max : max + 1);
+        return (from < to) ? new DescendingSlice(from, to) : List.of();
+    }
+
+    static int scovilleOf(FoodCardDto card) {
+        return card.getScoville() == null ? 0 : card.getScoville();
+    }
+
+    //value 이상인 첫 위치(없으면 길이)
+    private int firstAtLeast(int value) {
+        int low = 0;
+        int high = scovilles.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scovilles[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //cards[from, to) 구간을 뒤에서부터 읽는 읽기 전용 뷰
+    private final class DescendingSlice extends AbstractList<FoodCardDto> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        private DescendingSlice(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public FoodCardDto get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return cards[to - 1 - index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
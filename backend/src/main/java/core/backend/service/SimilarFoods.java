@@ -0,0 +1,97 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.repository.FoodRepository;
+import core.backend.repository.HeartRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+//비슷한 음식 추천(좋아요 동시 발생 + 카테고리 + 스코빌 근접도)
+//요청마다 heart 테이블을 집계하지 않고, 주기적인 배치로 유사도 행렬을 만들어 메모리에서 응답
+@Slf4j
+@Component
+public class SimilarFoods {
+
+    static final int TOP_K = 20; // 음식마다 저장하는 유사 음식 수 = 최대 응답 개수
+
+    private final FoodRepository foodRepository;
+    private final HeartRepository heartRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile SimilarityMatrix matrix = SimilarityMatrix.EMPTY;
+
+    public SimilarFoods(FoodRepository foodRepository, HeartRepository heartRepository,
+                        PlatformTransactionManager transactionManager) {
+        this.foodRepository = foodRepository;
+        this.heartRepository = heartRepository;
+        //좋아요 스트림은 다 읽을 때까지 트랜잭션이 열려 있어야 함(스케줄러 스레드라 직접 엶)
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    //유사 음식 id(점수 내림차순), 아직 행렬에 없는 음식이면 빈 목록
+    public long[] similar(Long foodId, int limit) {
+        return matrix.similar(foodId, Math.min(limit, TOP_K));
+    }
+
+    //서버 시작 직후 한 번, 이후 주기적으로 다시 만듦(좋아요 변화는 천천히 반영해도 됨)
+    @Scheduled(fixedDelayString = "${food.similar.rebuild-delay:3600000}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<FoodCardDto> cards = foodRepository.findAllCards();
+        long[] foodIds = new long[cards.size()];
+        String[] categories = new String[cards.size()];
+        int[] scovilles = new int[cards.size()];
+        for (int i = 0; i < cards.size(); i++) {
+            FoodCardDto card = cards.get(i);
+            foodIds[i] = card.getId();
+            categories[i] = card.getCategory() == null ? "" : card.getCategory();
+            scovilles[i] = ScovilleIndex.scovilleOf(card);
+        }
+        SimilarityMatrix built = SimilarityMatrix.build(foodIds, categories, scovilles, memberFoods(), TOP_K);
+        matrix = built;
+        log.info("비슷한 음식 행렬 생성: {}개 음식, {}개 항목, {}ms", built.size(), built.nonZeros(),
+                System.currentTimeMillis() - start);
+    }
+
+    //회원별 좋아요 음식 id 목록(회원 id 순으로 정렬된 [회원 id, 음식 id] 행을 읽으면서 바로 long[]로 묶음)
+    //좋아요 전체를 List<Object[]>로 올리지 않으므로, 남는 것은 회원별 long[]뿐
+    private List<long[]> memberFoods() {
+        return readOnlyTransaction.execute(status -> {
+            List<long[]> memberFoods = new ArrayList<>();
+            long[] current = new long[16];
+            int size = 0;
+            long currentMember = 0;
+            try (Stream<Object[]> rows = heartRepository.streamMemberFoodPairs()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    long memberId = (Long) row[0];
+                    if (size == 0 || memberId != currentMember) {
+                        addMember(memberFoods, current, size);
+                        size = 0;
+                        currentMember = memberId;
+                    }
+                    if (size == current.length) {
+                        current = Arrays.copyOf(current, size * 2);
+                    }
+                    current[size++] = (Long) row[1];
+                }
+            }
+            addMember(memberFoods, current, size);
+            return memberFoods;
+        });
+    }
+
+    private static void addMember(List<long[]> memberFoods, long[] foods, int size) {
+        if (size > 1) { // 하나만 누른 회원은 동시 발생에 기여하지 않음
+            memberFoods.add(Arrays.copyOf(foods, size));
+        }
+    }
+}
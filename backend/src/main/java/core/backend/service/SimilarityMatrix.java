@@ -0,0 +1,208 @@
+package core.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+//음식 간 유사도 상위 K개를 담은 희소 행렬(CSR: 행 시작 위치 + 열 번호 + 점수, 모두 원시 배열)
+//점수 = 좋아요 동시 발생 코사인 유사도 + 같은 카테고리 + 스코빌 근접도(로그 스케일) 가중합
+//행(음식)마다 독립적으로 계산하므로 병렬 스트림으로 나눠 만들고, 만든 뒤에는 불변이라 잠금 없이 조회
+final class SimilarityMatrix {
+
+    static final SimilarityMatrix EMPTY = new SimilarityMatrix(new long[0], new int[1], new int[0], new float[0]);
+
+    static final double CO_HEART_WEIGHT = 0.7;
+    static final double CATEGORY_WEIGHT = 0.2;
+    static final double SCOVILLE_WEIGHT = 0.1;
+    static final double MAX_LOG_SCOVILLE_GAP = 3.0; // 스코빌 1000배 이상 차이나면 근접도 0
+    static final int CONTENT_CANDIDATES = 20;        // 같은 카테고리에서 스코빌이 가까운 후보 수(좋아요가 없는 음식 대비)
+    static final int MAX_HEARTS_PER_MEMBER = 500;    // 이보다 많이 누른 회원은 동시 발생 계산에서 제외(제곱 비용 방지)
+
+    private final long[] foodIds;   // 행 번호 -> 음식 id(오름차순)
+    private final int[] rowStart;   // 길이 = 음식 수 + 1
+    private final int[] columns;    // 유사 음식 행 번호(점수 내림차순)
+    private final float[] scores;
+
+    private SimilarityMatrix(long[] foodIds, int[] rowStart, int[] columns, float[] scores) {
+        this.foodIds = foodIds;
+        this.rowStart = rowStart;
+        this.columns = columns;
+        this.scores = scores;
+    }
+
+    //foodIds: 음식 id, categories/scovilles: 같은 순서의 음식 속성
+    //memberFoods: 회원별 좋아요 누른 음식 id 목록, topK: 음식마다 남길 유사 음식 수
+    static SimilarityMatrix build(long[] foodIds, String[] categories, int[] scovilles, List<long[]> memberFoods, int topK) {
+        int n = foodIds.length;
+        if (n == 0) {
+            return EMPTY;
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(foodIds[a], foodIds[b]));
+        long[] ids = new long[n];
+        String[] category = new String[n];
+        double[] logScoville = new double[n];
+        for (int row = 0; row < n; row++) {
+            ids[row] = foodIds[order[row]];
+            category[row] = categories[order[row]];
+            logScoville[row] = Math.log10(Math.max(0, scovilles[order[row]]) + 1.0);
+        }
+
+        //회원별 좋아요 목록을 행 번호로 바꾸고, 음식별 좋아요 회원 목록(역색인)과 좋아요 수를 만듦
+        List<int[]> members = new ArrayList<>();
+        for (long[] liked : memberFoods) {
+            int[] rows = Arrays.stream(liked).mapToInt(id -> Arrays.binarySearch(ids, id)).filter(row -> row >= 0).distinct().toArray();
+            if (rows.length > 1 && rows.length <= MAX_HEARTS_PER_MEMBER) {
+                members.add(rows);
+            }
+        }
+        int[] degree = new int[n];
+        members.forEach(rows -> Arrays.stream(rows).forEach(row -> degree[row]++));
+        int[][] foodMembers = new int[n][];
+        for (int row = 0; row < n; row++) {
+            foodMembers[row] = new int[degree[row]];
+        }
+        int[] fill = new int[n];
+        for (int m = 0; m < members.size(); m++) {
+            for (int row : members.get(m)) {
+                foodMembers[row][fill[row]++] = m;
+            }
+        }
+
+        //같은 카테고리 음식을 스코빌 순으로 정렬해 두고, 각 음식의 위치 기록(가까운 스코빌 후보용)
+        Map<String, List<Integer>> byCategory = new HashMap<>();
+        for (int row = 0; row < n; row++) {
+            byCategory.computeIfAbsent(category[row], key -> new ArrayList<>()).add(row);
+        }
+        int[][] categoryRows = new int[n][];
+        int[] categoryPosition = new int[n];
+        for (List<Integer> rows : byCategory.values()) {
+            int[] sorted = rows.stream().sorted((a, b) -> Double.compare(logScoville[a], logScoville[b])).mapToInt(Integer::intValue).toArray();
+            for (int position = 0; position < sorted.length; position++) {
+                categoryRows[sorted[position]] = sorted;
+                categoryPosition[sorted[position]] = position;
+            }
+        }
+
+        //행마다 병렬 계산, 스레드별 작업 배열 재사용
+        ThreadLocal<int[]> coCounts = ThreadLocal.withInitial(() -> new int[n]);
+        Row[] rows = IntStream.range(0, n).parallel()
+                .mapToObj(row -> similarRow(row, topK, coCounts.get(), members, foodMembers, degree,
+                        category, logScoville, categoryRows[row], categoryPosition[row]))
+                .toArray(Row[]::new);
+
+        int[] rowStart = new int[n + 1];
+        for (int row = 0; row < n; row++) {
+            rowStart[row + 1] = rowStart[row] + rows[row].columns().length;
+        }
+        int[] columns = new int[rowStart[n]];
+        float[] scores = new float[rowStart[n]];
+        for (int row = 0; row < n; row++) {
+            System.arraycopy(rows[row].columns(), 0, columns, rowStart[row], rows[row].columns().length);
+            System.arraycopy(rows[row].scores(), 0, scores, rowStart[row], rows[row].scores().length);
+        }
+        return new SimilarityMatrix(ids, rowStart, columns, scores);
+    }
+
+    //음식 id의 유사 음식 id(점수 내림차순 최대 limit개), 모르는 음식이면 빈 배열
+    long[] similar(long foodId, int limit) {
+        int row = Arrays.binarySearch(foodIds, foodId);
+        if (row < 0) {
+            return new long[0];
+        }
+        int from = rowStart[row];
+        int count = Math.min(limit, rowStart[row + 1] - from);
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = foodIds[columns[from + i]];
+        }
+        return result;
+    }
+
+    boolean contains(long foodId) {
+        return Arrays.binarySearch(foodIds, foodId) >= 0;
+    }
+
+    int size() {
+        return foodIds.length;
+    }
+
+    int nonZeros() {
+        return columns.length;
+    }
+
+    private static Row similarRow(int row, int topK, int[] co, List<int[]> members, int[][] foodMembers, int[] degree,
+                                  String[] category, double[] logScoville, int[] sameCategory, int position) {
+        //좋아요 동시 발생 횟수(건드린 칸만 기록해 두고 끝나면 0으로 되돌림)
+        int[] touched = new int[16];
+        int touchedCount = 0;
+        for (int m : foodMembers[row]) {
+            for (int other : members.get(m)) {
+                if (other == row) {
+                    continue;
+                }
+                if (co[other]++ == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = other;
+                }
+            }
+        }
+        //같은 카테고리에서 스코빌이 가까운 음식을 후보로 추가(좋아요가 적은 음식도 추천이 나오도록)
+        int left = position - 1;
+        int right = position + 1;
+        int added = 0;
+        while (added < CONTENT_CANDIDATES && (left >= 0 || right < sameCategory.length)) {
+            boolean takeLeft = right >= sameCategory.length || (left >= 0
+                    && logScoville[row] - logScoville[sameCategory[left]] <= logScoville[sameCategory[right]] - logScoville[row]);
+            int other = takeLeft ? sameCategory[left--] : sameCategory[right++];
+            if (co[other] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = other;
+                co[other] = -1; // 동시 발생 없음 표시(후보 중복 방지)
+            }
+            added++;
+        }
+
+        int[] candidates = Arrays.copyOf(touched, touchedCount);
+        double[] candidateScores = new double[touchedCount];
+        for (int i = 0; i < touchedCount; i++) {
+            int other = candidates[i];
+            int together = Math.max(0, co[other]);
+            co[other] = 0;
+            double cosine = together == 0 ? 0 : together / Math.sqrt((double) degree[row] * degree[other]);
+            double sameCategoryScore = category[row].equals(category[other]) ? 1 : 0;
+            double proximity = Math.max(0, 1 - Math.abs(logScoville[row] - logScoville[other]) / MAX_LOG_SCOVILLE_GAP);
+            candidateScores[i] = CO_HEART_WEIGHT * cosine + CATEGORY_WEIGHT * sameCategoryScore + SCOVILLE_WEIGHT * proximity;
+        }
+
+        //점수 내림차순(같으면 행 번호 오름차순) 상위 K개
+        Integer[] byScore = new Integer[touchedCount];
+        for (int i = 0; i < touchedCount; i++) {
+            byScore[i] = i;
+        }
+        Arrays.sort(byScore, (a, b) -> candidateScores[a] != candidateScores[b]
+                ? Double.compare(candidateScores[b], candidateScores[a])
+                : Integer.compare(candidates[a], candidates[b]));
+        int count = Math.min(topK, touchedCount);
+        int[] columns = new int[count];
+        float[] scores = new float[count];
+        for (int i = 0; i < count; i++) {
+            columns[i] = candidates[byScore[i]];
+            scores[i] = (float) candidateScores[byScore[i]];
+        }
+        return new Row(columns, scores);
+    }
+
+    private record Row(int[] columns, float[] scores) {
+    }
+}
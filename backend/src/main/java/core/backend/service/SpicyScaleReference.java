@@ -0,0 +1,92 @@
+package core.backend.service;
+
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.repository.FoodRepository;
+import core.backend.repository.SpicyScaleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+//SpicyScale 기준표와 음식별 매운맛 비교 문구 캐시
+//음식마다 비교 문구를 미리 만들어 두고, 기준표가 바뀌면 전체를, 음식 스코빌이 바뀌면 그 음식만 다시 계산
+//기준표 변경은 앱에서 쓰지 않으므로(직접 DB 입력) 주기적으로 가벼운 집계값(fingerprint)만 비교해서 감지
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpicyScaleReference {
+
+    private final SpicyScaleRepository spicyScaleRepository;
+    private final FoodRepository foodRepository;
+    private final ContentVersions contentVersions;
+
+    private volatile SpicyScaleTable table = SpicyScaleTable.EMPTY;
+    private volatile Map<Long, Placement> placements = Map.of();
+    private Object[] fingerprint;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        fingerprint = currentFingerprint();
+        table = SpicyScaleTable.of(spicyScaleRepository.findAll());
+        placements = placeAll(foodRepository.findAllScovilles(), Map.of());
+        contentVersions.bumpAllFoods(); // 상세 응답의 비교 문구가 바뀌므로 ETag도 갱신
+        log.info("매운맛 기준표 로드: {}개 기준, {}개 음식", table.size(), placements.size());
+    }
+
+    //음식의 기준표 비교 문구(미리 계산된 값이 없거나 스코빌이 달라졌으면 바로 계산)
+    public String describe(Long foodId, Integer scoville) {
+        Placement placement = placements.get(foodId);
+        if (placement != null && Objects.equals(placement.scoville(), scoville)) {
+            return placement.text();
+        }
+        return table.describe(scoville);
+    }
+
+    //스코빌이 바뀌었을 수 있는 음식만 다시 계산
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onFoodCatalogChanged(FoodCatalogChangedEvent event) {
+        if (event.foodIds().isEmpty()) {
+            return;
+        }
+        placements = placeAll(foodRepository.findScovillesByIdIn(event.foodIds()), placements);
+    }
+
+    //기준표 fingerprint(행 수, 행별 체크섬 합)가 바뀌었으면 다시 로드
+    @Scheduled(fixedDelayString = "${food.spicy-scale.reload-delay:60000}")
+    public synchronized void reloadIfChanged() {
+        Object[] current = currentFingerprint();
+        if (Arrays.equals(current, fingerprint)) {
+            return;
+        }
+        load();
+    }
+
+    private Object[] currentFingerprint() {
+        List<Object[]> rows = spicyScaleRepository.fingerprint();
+        return rows.isEmpty() ? new Object[0] : rows.get(0);
+    }
+
+    //row: [id, 스코빌]
+    private Map<Long, Placement> placeAll(List<Object[]> rows, Map<Long, Placement> base) {
+        SpicyScaleTable current = table;
+        Map<Long, Placement> next = new HashMap<>(base);
+        for (Object[] row : rows) {
+            Integer scoville = (Integer) row[1];
+            next.put((Long) row[0], new Placement(scoville, current.describe(scoville)));
+        }
+        return Map.copyOf(next);
+    }
+
+    //scoville: 문구를 만들 때 사용한 스코빌(음식 스코빌이 바뀌었는지 확인용)
+    private record Placement(Integer scoville, String text) {
+    }
+}
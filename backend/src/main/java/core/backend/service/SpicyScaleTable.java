@@ -0,0 +1,91 @@
+package core.backend.service;
+
+import core.backend.domain.SpicyScale;
+
+import java.util.Comparator;
+import java.util.List;
+
+//매운맛 기준표(소스, 고추) 스코빌 오름차순 배열
+//음식 스코빌로 이진 탐색해서 바로 아래/위 기준과 비교한 문구를 만듦
+final class SpicyScaleTable {
+
+    static final SpicyScaleTable EMPTY = new SpicyScaleTable(new int[0], new String[0]);
+
+    private static final int TABASCO_SCOVILLE = 3750; //타바스코 평균 스코빌(기준표가 비어 있을 때 사용)
+
+    private final int[] scovilles;
+    private final String[] names;
+
+    private SpicyScaleTable(int[] scovilles, String[] names) {
+        this.scovilles = scovilles;
+        this.names = names;
+    }
+
+    //이름이나 스코빌이 없는 행은 제외
+    static SpicyScaleTable of(List<SpicyScale> scales) {
+        List<SpicyScale> valid = scales.stream()
+                .filter(scale -> scale.getScoville() != null && scale.getName() != null && !scale.getName().isBlank())
+                .sorted(Comparator.comparing(SpicyScale::getScoville).thenComparing(SpicyScale::getId))
+                .toList();
+        int[] scovilles = new int[valid.size()];
+        String[] names = new String[valid.size()];
+        for (int i = 0; i < valid.size(); i++) {
+            scovilles[i] = valid.get(i).getScoville();
+            names[i] = valid.get(i).getName().trim();
+        }
+        return new SpicyScaleTable(scovilles, names);
+    }
+
+    int size() {
+        return scovilles.length;
+    }
+
+    //음식 스코빌이 기준표에서 어디쯤인지(바로 아래, 위 기준 이름으로 표현)
+    String describe(Integer scoville) {
+        if (scoville == null) {
+            return "매운맛 정보 없음";
+        }
+        if (scovilles.length == 0) {
+            return compareWithTabasco(scoville);
+        }
+        int index = firstAtLeast(scoville);
+        if (index < scovilles.length && scovilles[index] == scoville) {
+            return names[index] + " 수준의 매운맛";
+        }
+        if (index == 0) {
+            return names[0] + " 보다 덜 매운 편";
+        }
+        if (index == scovilles.length) {
+            return names[index - 1] + " 보다 더 매운 편";
+        }
+        return names[index - 1] + " 보다 맵고 " + names[index] + " 보다 덜 매운 편";
+    }
+
+    //scoville 이상인 첫 위치(없으면 길이)
+    private int firstAtLeast(int scoville) {
+        int low = 0;
+        int high = scovilles.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scovilles[mid] < scoville) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    //기존 비교 방식(기준표 데이터가 없을 때)
+    private static String compareWithTabasco(int scoville) {
+        if (scoville > TABASCO_SCOVILLE * 1.5) {
+            return "타바스코 소스 보다 완전 매운 편";
+        } else if (scoville > TABASCO_SCOVILLE * 0.8) {
+            return "타바스코 소스 보다 조금 더 매운 편";
+        } else if (scoville < TABASCO_SCOVILLE * 0.5) {
+            return "타바스코 소스 보다 안 매운 편";
+        } else {
+            return "타바스코 소스와 비슷한 편";
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package core.backend.service;
+
+import core.backend.repository.FoodRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+//food의 매운맛 집계를 review 테이블과 주기적으로 대조해서 어긋난 값 보정
+//(집계 컬럼 추가 전 후기, 동시에 같은 후기를 수정해서 생긴 차이 등)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpicyStatsReconciler {
+
+    private final FoodRepository foodRepository;
+
+    @Scheduled(fixedDelayString = "${food.spicy-stats.reconcile-delay:600000}")
+    @Transactional
+    public void reconcile() {
+        List<Long> mismatched = foodRepository.findSpicyStatsMismatches();
+        if (mismatched.isEmpty()) {
+            return;
+        }
+
+        foodRepository.recountSpicyStats(mismatched);
+        log.warn("매운맛 집계 보정: {}개 음식 {}", mismatched.size(), mismatched);
+    }
+}
@@ -0,0 +1,130 @@
+package core.backend.domain;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.repository.FoodRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//Food.description 지연 로딩 확인(목록 조회는 설명을 읽지 않고, 접근할 때만 한 번 더 조회)
+//+ 카드 목록 쿼리가 읽는 행 수와 컬럼(실행된 SQL에 description이 없는지) 측정
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=core.backend.domain.FoodDescriptionLazyLoadTest$SqlCapture"
+})
+@Transactional
+class FoodDescriptionLazyLoadTest {
+    private static final int FOOD_COUNT = 100;
+
+    @Autowired FoodRepository foodRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("엔티티 조회는 description을 읽지 않고, 접근할 때 한 번 더 조회")
+    void descriptionIsLazy() {
+        //given
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            foods.add(Food.builder()
+                    .name("지연음식" + i)
+                    .englishName("lazy food " + i)
+                    .category("라면")
+                    .scoville(1000 + i)
+                    .imgUrl("https://image-url.com/" + i + ".jpg")
+                    .description("설명 ".repeat(2000))
+                    .build());
+        }
+        foodRepository.saveAll(foods);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when: 목록 조회(엔티티)
+        statistics.clear();
+        List<Food> loaded = foodRepository.findAll();
+        long listQueries = statistics.getPrepareStatementCount();
+
+        //then: description은 초기화되지 않음
+        assertEquals(1, listQueries);
+        assertTrue(loaded.size() >= FOOD_COUNT);
+        loaded.forEach(food -> assertFalse(Hibernate.isPropertyInitialized(food, "description")));
+
+        //when: 상세처럼 description 접근
+        statistics.clear();
+        Food first = loaded.get(0);
+        String description = first.getDescription();
+        assertNotNull(description);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("카드 목록 쿼리는 음식 수만큼 행을 읽고, description 컬럼은 읽지 않음")
+    void cardQueriesReadNarrowColumns() {
+        //given
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            foods.add(Food.builder()
+                    .name("카드음식" + i)
+                    .englishName("card food " + i)
+                    .category("떡볶이")
+                    .scoville(2000 + i)
+                    .imgUrl("https://image-url.com/" + i + ".jpg")
+                    .description("설명 ".repeat(2000))
+                    .build());
+        }
+        foodRepository.saveAll(foods);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> ids = foods.stream().map(Food::getId).toList();
+
+        //when
+        statistics.clear();
+        SqlCapture.STATEMENTS.clear();
+        List<FoodCardDto> all = foodRepository.findAllCards();
+        List<FoodCardDto> some = foodRepository.findCardsByIdIn(ids);
+
+        //then: 쿼리 2번, 읽은 행은 카드 수와 같고, 실행된 SQL에 description 컬럼 없음
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(all.size() >= FOOD_COUNT);
+        assertEquals(FOOD_COUNT, some.size());
+        assertEquals(all.size() + some.size(), totalQueryRows(statistics));
+        assertEquals(2, SqlCapture.STATEMENTS.size());
+        SqlCapture.STATEMENTS.forEach(sql -> assertFalse(sql.toLowerCase(Locale.ROOT).contains("description"), sql));
+    }
+
+    private static long totalQueryRows(Statistics statistics) {
+        long rows = 0;
+        for (String query : statistics.getQueries()) {
+            rows += statistics.getQueryStatistics(query).getExecutionRowCount();
+        }
+        return rows;
+    }
+
+    //Hibernate가 실행하는 SQL을 그대로 기록(설정 값으로 등록하므로 public, 기본 생성자 필요)
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
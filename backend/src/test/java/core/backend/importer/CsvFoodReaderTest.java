@@ -0,0 +1,86 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvFoodReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final CsvFoodReader reader = new CsvFoodReader();
+
+    //reader가 넘긴 행만 기록(저장하지 않음)
+    private static class RecordingPipeline extends FoodImportPipeline {
+        final List<Long> rowNumbers = new ArrayList<>();
+        final List<List<String>> rows = new ArrayList<>();
+        final List<Long> rejected = new ArrayList<>();
+
+        RecordingPipeline() {
+            super(1L, FoodImportMode.INSERT, null, null, new HashMap<>(), new HashMap<>(), 1000,
+                    new FoodImportProgress(0, 0, 0, 0, 0, 0, 0), ids -> { });
+        }
+
+        @Override
+        public void accept(long rowNumber, List<String> cells) {
+            rowNumbers.add(rowNumber);
+            rows.add(cells);
+        }
+
+        @Override
+        public void reject(long rowNumber, String reason) {
+            rejected.add(rowNumber);
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("foods.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    @DisplayName("BOM이 붙은 헤더는 건너뛰고, 따옴표 안의 쉼표/줄바꿈은 한 칸으로 읽음")
+    void quotedCells() throws IOException {
+        Path file = write("\uFEFF카테고리,이름,영어 이름,스코빌,이미지,설명\n"
+                + "라면,신라면,Shin Ramyun,3400,shin.png,\"얼큰하고, 매운 국물\"\n"
+                + "\n"
+                + "라면,불닭볶음면,Buldak,4404,buldak.png,\"첫 줄\n둘째 줄\"\n");
+        RecordingPipeline pipeline = new RecordingPipeline();
+
+        reader.read(file, pipeline);
+
+        assertEquals(List.of(2L, 3L), pipeline.rowNumbers);
+        assertEquals(List.of("라면", "신라면", "Shin Ramyun", "3400", "shin.png", "얼큰하고, 매운 국물"), pipeline.rows.get(0));
+        assertEquals("첫 줄\n둘째 줄", pipeline.rows.get(1).get(5));
+        assertTrue(pipeline.rejected.isEmpty());
+    }
+
+    @Test
+    @DisplayName("따옴표가 깨진 행은 잘못된 행으로 남기고 형식 오류로 중단")
+    void malformedQuote() throws IOException {
+        Path file = write("카테고리,이름,영어 이름,스코빌,이미지,설명\n"
+                + "라면,신라면,Shin Ramyun,3400,shin.png,설명\n"
+                + "라면,\"진라면\"매운맛,Jin Ramen,2000,jin.png,설명\n"
+                + "라면,열라면,Yeul Ramen,5013,yeul.png,설명\n");
+        RecordingPipeline pipeline = new RecordingPipeline();
+
+        FoodImportFormatException e = assertThrows(FoodImportFormatException.class, () -> reader.read(file, pipeline));
+
+        assertEquals(List.of(2L), pipeline.rowNumbers);
+        assertEquals(List.of(3L), pipeline.rejected);
+        assertTrue(e.getMessage().startsWith("3행"));
+    }
+}
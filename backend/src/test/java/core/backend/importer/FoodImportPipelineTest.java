@@ -0,0 +1,141 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FoodImportPipelineTest {
+
+    private static final FoodImportProgress START = new FoodImportProgress(0, 0, 0, 0, 0, 0, 0);
+
+    //DB 대신 저장한 행과 체크포인트를 기록
+    private final List<FoodImportRow> inserted = new ArrayList<>();
+    private final List<FoodImportRow> updated = new ArrayList<>();
+    private final List<FoodImportProgress> checkpoints = new ArrayList<>();
+    private final List<FoodImportRowError> errors = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private final FoodBatchWriter writer = new FoodBatchWriter(null, null, null) {
+        @Override
+        public Result write(List<FoodImportRow> inserts, List<FoodImportRow> updates, Consumer<Result> inTransaction) {
+            inserted.addAll(inserts);
+            updated.addAll(updates);
+            Result result = new Result(ids(inserts.size()), ids(updates.size()));
+            inTransaction.accept(result);
+            return result;
+        }
+    };
+
+    private final FoodImportJobStore jobStore = new FoodImportJobStore(null) {
+        @Override
+        public void saveCheckpoint(long jobId, FoodImportProgress progress, List<FoodImportRowError> rowErrors) {
+            checkpoints.add(progress);
+            errors.addAll(rowErrors);
+        }
+    };
+
+    private List<Long> ids(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId.getAndIncrement());
+        }
+        return ids;
+    }
+
+    private FoodImportPipeline pipeline(FoodImportMode mode, Map<String, String> names,
+                                        Map<String, String> englishNames, FoodImportProgress resumeFrom) {
+        return new FoodImportPipeline(1L, mode, writer, jobStore, names, englishNames, 2, resumeFrom, ids -> { });
+    }
+
+    private static List<String> row(String name, String scoville) {
+        return List.of("라면", name, name + " eng", scoville, "img.png", "설명");
+    }
+
+    @Test
+    @DisplayName("두 행마다 저장하고, 잘못된 행/중복 행은 오류로 남김")
+    void chunksAndErrors() {
+        Map<String, String> names = new HashMap<>(Map.of("불닭볶음면", ""));
+        FoodImportPipeline pipeline = pipeline(FoodImportMode.INSERT, names, new HashMap<>(), START);
+
+        pipeline.accept(2, row("신라면", "3400"));
+        pipeline.accept(3, row("불닭볶음면", "4404"));  // 이미 있음
+        pipeline.accept(4, row("진라면", "매움"));      // 스코빌 숫자 아님
+        pipeline.accept(5, row("신라면", "3400"));     // 파일 안 중복
+        pipeline.accept(6, row("틈새라면", "8557"));
+        pipeline.accept(7, row("열라면", "5013"));
+        pipeline.finish();
+
+        assertEquals(List.of("신라면", "틈새라면", "열라면"), inserted.stream().map(FoodImportRow::name).toList());
+        assertEquals(List.of(3L, 4L, 5L), errors.stream().map(FoodImportRowError::sourceRow).toList());
+        assertEquals(3, checkpoints.size());
+        assertEquals(new FoodImportProgress(7, 6, 3, 0, 0, 2, 1), pipeline.getProgress());
+        assertEquals(pipeline.getProgress(), checkpoints.get(checkpoints.size() - 1));
+    }
+
+    @Test
+    @DisplayName("이어서 처리하면 체크포인트 행까지는 건너뛰고 누적 값에 더함")
+    void resume() {
+        FoodImportPipeline pipeline = pipeline(FoodImportMode.INSERT, new HashMap<>(), new HashMap<>(),
+                new FoodImportProgress(3, 2, 2, 0, 0, 0, 0));
+
+        pipeline.accept(2, row("신라면", "3400"));
+        pipeline.accept(3, row("틈새라면", "8557"));
+        pipeline.accept(4, row("열라면", "5013"));
+        pipeline.finish();
+
+        assertEquals(List.of("열라면"), inserted.stream().map(FoodImportRow::name).toList());
+        assertEquals(new FoodImportProgress(4, 3, 3, 0, 0, 0, 0), pipeline.getProgress());
+    }
+
+    @Test
+    @DisplayName("upsert를 이어서 처리해도 체크포인트 앞 행과 같은 이름은 파일 안 중복으로 건너뜀")
+    void resumeUpsertKeepsSeenNames() {
+        String saved = FoodImportRow.parse(2, row("신라면", "3400")).content();
+        Map<String, String> names = new HashMap<>(Map.of("신라면", saved, "틈새라면", "old"));
+        Map<String, String> englishNames = new HashMap<>(Map.of("신라면 eng", "신라면", "틈새라면 eng", "틈새라면"));
+        FoodImportPipeline pipeline = pipeline(FoodImportMode.UPSERT, names, englishNames,
+                new FoodImportProgress(2, 1, 1, 0, 0, 0, 0));
+
+        pipeline.accept(2, row("신라면", "3400"));   // 이전 실행에서 추가됨
+        pipeline.accept(3, row("신라면", "9999"));   // 파일 안 중복
+        pipeline.accept(4, row("틈새라면", "8557")); // 수정
+        pipeline.finish();
+
+        assertTrue(inserted.isEmpty());
+        assertEquals(List.of("틈새라면"), updated.stream().map(FoodImportRow::name).toList());
+        assertEquals(List.of(3L), errors.stream().map(FoodImportRowError::sourceRow).toList());
+        assertEquals(new FoodImportProgress(4, 3, 1, 1, 0, 1, 0), pipeline.getProgress());
+    }
+
+    @Test
+    @DisplayName("upsert는 DB 값과 내용이 다른 음식만 수정")
+    void upsert() {
+        FoodImportRow saved = FoodImportRow.parse(2, row("신라면", "3400"));
+        //DB 값으로 만든 비교 값(진라면은 설명은 같고 스코빌만 다름)
+        String same = FoodImportRow.content("라면", "신라면 eng", "3400", "img.png", saved.descriptionHash());
+        String scovilleChanged = FoodImportRow.content("라면", "진라면 eng", "2000", "img.png", saved.descriptionHash());
+        Map<String, String> names = new HashMap<>(Map.of("신라면", same, "진라면", scovilleChanged));
+        Map<String, String> englishNames = new HashMap<>(Map.of("신라면 eng", "신라면", "진라면 eng", "진라면"));
+        FoodImportPipeline pipeline = pipeline(FoodImportMode.UPSERT, names, englishNames, START);
+
+        pipeline.accept(2, row("신라면", "3400"));   // 변경 없음
+        pipeline.accept(3, row("진라면", "4000"));   // 수정
+        pipeline.accept(4, row("열라면", "5013"));   // 추가
+        pipeline.accept(5, List.of("라면", "틈새라면", "신라면 ENG", "8557", "img.png", "")); // 영어 이름 중복
+        pipeline.finish();
+
+        assertEquals(List.of("열라면"), inserted.stream().map(FoodImportRow::name).toList());
+        assertEquals(List.of("진라면"), updated.stream().map(FoodImportRow::name).toList());
+        assertEquals(List.of(5L), errors.stream().map(FoodImportRowError::sourceRow).toList());
+        assertEquals(new FoodImportProgress(5, 4, 1, 1, 1, 1, 0), pipeline.getProgress());
+    }
+}
@@ -0,0 +1,92 @@
+package core.backend.importer;
+
+import core.backend.domain.FoodImportMode;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxFoodReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final XlsxFoodReader reader = new XlsxFoodReader();
+
+    //reader가 넘긴 행만 기록(저장하지 않음)
+    private static class RecordingPipeline extends FoodImportPipeline {
+        final List<Long> rowNumbers = new ArrayList<>();
+        final List<List<String>> rows = new ArrayList<>();
+
+        RecordingPipeline() {
+            super(1L, FoodImportMode.INSERT, null, null, new HashMap<>(), new HashMap<>(), 1000,
+                    new FoodImportProgress(0, 0, 0, 0, 0, 0, 0), ids -> { });
+        }
+
+        @Override
+        public void accept(long rowNumber, List<String> cells) {
+            rowNumbers.add(rowNumber);
+            rows.add(cells);
+        }
+    }
+
+    @Test
+    @DisplayName("위쪽 빈 행 다음의 첫 행을 열 이름으로 건너뛰고, 빈 셀은 열 위치로 채움")
+    void readRows() throws IOException {
+        Path file = dir.resolve("foods.xlsx");
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet();
+            CellStyle thousands = workbook.createCellStyle();
+            thousands.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+            sheet.createRow(0).createCell(0).setCellValue(""); // 위쪽 빈 행
+            Row header = sheet.createRow(1);
+            String[] names = {"카테고리", "이름", "영어 이름", "스코빌", "이미지", "설명"};
+            for (int i = 0; i < names.length; i++) {
+                header.createCell(i).setCellValue(names[i]);
+            }
+
+            Row first = sheet.createRow(2);
+            first.createCell(0).setCellValue("라면");
+            first.createCell(1).setCellValue("신라면");
+            first.createCell(2).setCellValue("Shin Ramyun");
+            first.createCell(3).setCellValue(3400);
+            first.getCell(3).setCellStyle(thousands);
+            first.createCell(4).setCellValue("shin.png"); // 설명 칸은 비움
+
+            sheet.createRow(3).createCell(1).setCellValue(" "); // 공백만 있는 행
+
+            Row second = sheet.createRow(4); // 영어 이름, 이미지 칸은 셀 자체가 없음
+            second.createCell(0).setCellValue("소스");
+            second.createCell(1).setCellValue("캡사이신");
+            second.createCell(3).setCellValue(1500000);
+            second.getCell(3).setCellStyle(thousands);
+            second.createCell(5).setCellValue("아주 매움");
+
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+            workbook.dispose();
+        }
+        RecordingPipeline pipeline = new RecordingPipeline();
+
+        reader.read(file, pipeline);
+
+        assertEquals(List.of(3L, 5L), pipeline.rowNumbers);
+        assertEquals(List.of("라면", "신라면", "Shin Ramyun", "3,400", "shin.png", ""), pipeline.rows.get(0));
+        assertEquals(List.of("소스", "캡사이신", "", "1,500,000", "", "아주 매움"), pipeline.rows.get(1));
+    }
+}
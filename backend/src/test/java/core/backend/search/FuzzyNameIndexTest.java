@@ -0,0 +1,49 @@
+package core.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FuzzyNameIndexTest {
+    FuzzyNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FuzzyNameIndex();
+        index.putAll(Map.of(1L, "Tteokbokki", 2L, "Shin Ramyeon", 3L, "Buldak Bokkeum Myeon", 4L, "Kimchi Jjigae"));
+    }
+
+    @Test
+    @DisplayName("로마자 표기 변형은 같은 키로 정규화")
+    void normalize() {
+        assertEquals(Romanization.normalize("tteokbokki"), Romanization.normalize("ddeokbokki"));
+        assertEquals(Romanization.normalize("kimchi"), Romanization.normalize("gimchi"));
+        assertEquals(1, BKTree.distance("lamyun", "lamyon", 5));
+    }
+
+    @Test
+    @DisplayName("오타/표기 변형 질의도 영어 이름으로 찾음")
+    void typo() {
+        assertEquals(1L, first(index.search("tteokboki")));
+        assertEquals(1L, first(index.search("topokki")));
+        assertEquals(2L, first(index.search("ramyun")));
+        assertEquals(4L, first(index.search("gimchi chigae")));
+        assertEquals(1L, first(index.search("tteok bokki")));
+    }
+
+    @Test
+    @DisplayName("허용 거리를 넘으면 결과 없음")
+    void tooFar() {
+        assertTrue(index.search("pizza").isEmpty());
+    }
+
+    private long first(List<NGramIndex.Hit> hits) {
+        assertFalse(hits.isEmpty());
+        return hits.get(0).id();
+    }
+}
@@ -0,0 +1,61 @@
+package core.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KoreanNameIndexTest {
+    KoreanNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new KoreanNameIndex();
+        index.putAll(Map.of(1L, "신라면", 2L, "엽기떡볶이", 3L, "불닭볶음면", 4L, "진라면 매운맛"));
+    }
+
+    @Test
+    @DisplayName("자모 분해(겹받침, 겹모음 포함)")
+    void decompose() {
+        assertEquals("ㄷㅏㄹㄱㅇㅗㅏ", Hangul.toJamo("닭 와"));
+        assertEquals("ㅅㄹㅁ", Hangul.toChosung("신라면"));
+        assertTrue(Hangul.isChosungOnly("ㅅㄹㅁ"));
+        assertFalse(Hangul.isChosungOnly("신ㄹ"));
+    }
+
+    @Test
+    @DisplayName("초성 검색")
+    void chosung() {
+        assertEquals(List.of(1L), ids(index.search("ㅅㄹㅁ")));
+        assertEquals(List.of(1L, 4L), ids(index.search("ㄹㅁ")));
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절(자모 접두사) 검색")
+    void partialSyllable() {
+        assertEquals(List.of(1L), ids(index.search("신라며")));
+        assertEquals(List.of(3L), ids(index.search("달"))); // 닭을 입력하는 중
+        assertTrue(index.search("ramen").isEmpty());
+    }
+
+    @Test
+    @DisplayName("stage로 모은 이름은 rebuildIfStaged에서 한 번에 반영")
+    void stagedNames() {
+        index.stage(Map.of(5L, "틈새라면"));
+        index.stage(Map.of(6L, "열라면"));
+        assertTrue(ids(index.search("ㅌㅅ")).isEmpty());
+
+        assertTrue(index.rebuildIfStaged());
+        assertFalse(index.rebuildIfStaged());
+        assertEquals(List.of(5L), ids(index.search("ㅌㅅ")));
+        assertEquals(List.of(6L), ids(index.search("열라")));
+    }
+
+    private List<Long> ids(List<NGramIndex.Hit> hits) {
+        return hits.stream().map(NGramIndex.Hit::id).toList();
+    }
+}
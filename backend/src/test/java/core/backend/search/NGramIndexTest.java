@@ -0,0 +1,49 @@
+package core.backend.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NGramIndexTest {
+    NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        //이름, 영어 이름, 카테고리, 설명
+        index = new NGramIndex(3.0, 2.5, 1.5, 0.5);
+        index.put(1, "신라면", "Shin Ramyun", "라면", "농심의 매운 라면");
+        index.put(2, "엽기떡볶이", "Yupdduk Tteokbokki", "떡볶이", "아주 매운 떡볶이");
+        index.put(3, "불닭볶음면", "Buldak Bokkeum Myeon", "라면", "매운 볶음면");
+    }
+
+    @Test
+    @DisplayName("이름 일치가 카테고리 일치보다 높은 점수")
+    void ranking() {
+        List<NGramIndex.Hit> hits = index.search("라면");
+
+        assertEquals(List.of(1L, 3L), hits.stream().map(NGramIndex.Hit::id).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("영어 이름, 한 글자 질의 검색")
+    void englishAndSingleCharacter() {
+        assertEquals(1L, index.search("ramyun").get(0).id());
+        assertEquals(2, index.search("면").size());
+    }
+
+    @Test
+    @DisplayName("문서 교체/삭제 시 색인 반영")
+    void incrementalUpdate() {
+        index.remove(1);
+        index.put(3, "짜장면", "Jjajangmyeon", "면", "춘장");
+
+        assertEquals(2, index.size());
+        assertTrue(index.search("볶음").isEmpty());
+        assertEquals(3L, index.search("짜장").get(0).id());
+    }
+}
@@ -0,0 +1,27 @@
+package core.backend.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestTrieTest {
+
+    @Test
+    @DisplayName("접두사별 상위 K개를 넣은 순서(순위)대로 반환")
+    void topByPrefix() {
+        SuggestTrie trie = SuggestTrie.builder(3)
+                .add(Hangul.toJamo("불닭볶음면"), 3)
+                .add(Hangul.toJamo("신라면"), 1)
+                .add(Hangul.toJamo("신당동 떡볶이"), 2)
+                .add(Hangul.toJamo("신라면 블랙"), 4)
+                .add(Hangul.toJamo("신라면"), 1)
+                .build();
+
+        assertArrayEquals(new long[]{1, 2, 4}, trie.top(Hangul.toJamo("신"), 10));
+        assertArrayEquals(new long[]{1, 4}, trie.top(Hangul.toJamo("신라"), 10));
+        assertArrayEquals(new long[]{1}, trie.top(Hangul.toJamo("신라"), 1));
+        assertArrayEquals(new long[]{1, 4}, trie.top(Hangul.toJamo("신라며"), 10)); // 입력 중인 음절
+        assertEquals(0, trie.top("xyz", 10).length);
+    }
+}
@@ -0,0 +1,49 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    CatalogSnapshot catalog = CatalogSnapshot.of(List.of(
+            card(1L, "한식", 0, 5), card(2L, "한식", 3750, 1), card(3L, "중식", 4404, 7),
+            card(4L, "한식", 3750, 3), card(5L, "한식", 100000, 2)));
+
+    @Test
+    @DisplayName("인기순 + 스코빌 범위: 인기순을 유지한 채 범위 밖 카드만 건너뜀")
+    void popularInRange() {
+        assertEquals(List.of(3L, 4L, 2L), ids(catalog.page(null, FoodSort.POPULAR, 1000, 5000, null, 10)));
+        assertEquals(List.of(4L, 2L), ids(catalog.page("한식", FoodSort.POPULAR, 1000, 5000, null, 10)));
+    }
+
+    @Test
+    @DisplayName("최신순 + 스코빌 범위: 커서 다음부터 limit개")
+    void newestInRangeAfterCursor() {
+        List<FoodCardDto> first = catalog.page(null, FoodSort.NEW, 3000, null, null, 2);
+        assertEquals(List.of(5L, 4L), ids(first));
+
+        FoodCardDto after = FoodSort.NEW.probe(FoodSort.NEW.cursorOf(first.get(1)));
+        assertEquals(List.of(3L, 2L), ids(catalog.page(null, FoodSort.NEW, 3000, null, after, 2)));
+    }
+
+    @Test
+    @DisplayName("매운순, 범위 없는 조회는 미리 정렬된 목록 그대로")
+    void prepared() {
+        assertEquals(List.of(5L, 3L, 4L), ids(catalog.page(null, FoodSort.SCOVILLE, 3000, null, null, 3)));
+        assertEquals(List.of(3L, 1L, 4L, 5L, 2L), ids(catalog.page(null, FoodSort.POPULAR, null, null, null, 10)));
+        assertTrue(catalog.page("양식", FoodSort.SCOVILLE, null, null, null, 10).isEmpty());
+    }
+
+    private static FoodCardDto card(Long id, String category, int scoville, int heartCount) {
+        return FoodCardDto.builder().id(id).category(category).scoville(scoville).heartCount(heartCount).build();
+    }
+
+    private static List<Long> ids(List<FoodCardDto> cards) {
+        return cards.stream().map(FoodCardDto::getId).toList();
+    }
+}
@@ -0,0 +1,57 @@
+package core.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.event.ReviewChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentVersionsTest {
+
+    private final ContentVersions versions = new ContentVersions();
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 10, 60000);
+
+    @Test
+    @DisplayName("버전이 같으면 304, 좋아요/리뷰 변경 후에는 이전 ETag로 304를 받지 못함")
+    void foodETagFollowsChanges() {
+        String before = versions.foodETag(1L, versions.food(1L));
+        assertEquals(HttpStatus.NOT_MODIFIED, cache.notModified(before, current(1L)).getStatusCode());
+
+        versions.onHeartCountChanged(new HeartCountChangedEvent(1L));
+        assertNull(cache.notModified(before, current(1L)));
+
+        String afterHeart = current(1L);
+        versions.onReviewChanged(new ReviewChangedEvent(1L));
+        assertNull(cache.notModified(afterHeart, current(1L)));
+    }
+
+    @Test
+    @DisplayName("음식별 변경은 다른 음식 ETag에 영향 없음, 전체 변경은 모든 음식 ETag를 바꿈")
+    void scopes() {
+        String other = current(2L);
+        versions.onHeartCountChanged(new HeartCountChangedEvent(1L));
+        assertEquals(other, current(2L));
+
+        versions.bumpAllFoods();
+        assertNotEquals(other, current(2L));
+        assertNull(cache.notModified(other, current(2L)));
+    }
+
+    @Test
+    @DisplayName("카탈로그 ETag는 스냅샷 교체(bumpCatalog) 때만 바뀜")
+    void catalogETag() {
+        String before = versions.catalogETag(versions.catalog());
+        versions.onHeartCountChanged(new HeartCountChangedEvent(1L));
+        assertEquals(before, versions.catalogETag(versions.catalog()));
+
+        versions.bumpCatalog();
+        assertNull(cache.notModified(before, versions.catalogETag(versions.catalog())));
+    }
+
+    private String current(Long foodId) {
+        return versions.foodETag(foodId, versions.food(foodId));
+    }
+}
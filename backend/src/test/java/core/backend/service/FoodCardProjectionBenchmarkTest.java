@@ -0,0 +1,87 @@
+package core.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.backend.domain.Food;
+import core.backend.domain.Heart;
+import core.backend.domain.Member;
+import core.backend.domain.RoleType;
+import core.backend.dto.FoodCardDto;
+import core.backend.repository.FoodRepository;
+import core.backend.repository.HeartRepository;
+import core.backend.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//음식 목록/검색 응답: 엔티티 직렬화(이전) vs 카드 DTO 프로젝션(이후) 쿼리 수, 응답 크기 비교
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class FoodCardProjectionBenchmarkTest {
+    private static final int FOOD_COUNT = 200;
+
+    @Autowired FoodRepository foodRepository;
+    @Autowired HeartRepository heartRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("카드 프로젝션은 쿼리 1번, 엔티티 직렬화보다 작은 응답")
+    void projectionVsEntity() throws Exception {
+        //given
+        Member member = memberRepository.save(Member.builder()
+                .name("bench_member")
+                .email("bench@test.com")
+                .password("test")
+                .role(RoleType.USER)
+                .build());
+        List<Food> foods = new ArrayList<>();
+        for (int i = 0; i < FOOD_COUNT; i++) {
+            foods.add(Food.builder()
+                    .name("벤치음식" + i)
+                    .englishName("bench food " + i)
+                    .category(i % 2 == 0 ? "라면" : "떡볶이")
+                    .scoville(1000 + i)
+                    .imgUrl("https://image-url.com/" + i + ".jpg")
+                    .description("설명 ".repeat(500))
+                    .build());
+        }
+        foodRepository.saveAll(foods);
+        foods.forEach(food -> heartRepository.save(Heart.builder().food(food).member(member).build()));
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //when: 이전 방식(엔티티 조회 후 hearts.size()로 정렬, 엔티티 그대로 직렬화)
+        statistics.clear();
+        List<Food> entities = foodRepository.findAll();
+        entities.forEach(food -> food.getHearts().size());
+        long entityBytes = objectMapper.writeValueAsBytes(entities).length;
+        long entityQueries = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        //when: 이후 방식(카드 DTO 프로젝션)
+        statistics.clear();
+        List<FoodCardDto> cards = foodRepository.findAllCards();
+        long cardBytes = objectMapper.writeValueAsBytes(cards).length;
+        long cardQueries = statistics.getPrepareStatementCount();
+
+        //then
+        assertEquals(1, cardQueries);
+        assertTrue(cards.size() >= FOOD_COUNT);
+        assertTrue(entityQueries > cardQueries);
+        assertTrue(entityBytes > cardBytes); // ObjectMapper로 직렬화한 실제 응답 바이트 비교
+    }
+}
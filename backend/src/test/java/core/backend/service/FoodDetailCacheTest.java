@@ -0,0 +1,108 @@
+package core.backend.service;
+
+import core.backend.dto.FoodDetailDto;
+import core.backend.event.HeartCountChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FoodDetailCacheTest {
+
+    private final FoodService foodService = mock(FoodService.class);
+    private final ContentVersions contentVersions = new ContentVersions();
+    private final List<FoodDetailCache> caches = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        caches.forEach(FoodDetailCache::shutdown);
+    }
+
+    @Test
+    @DisplayName("같은 음식에 동시에 몰린 캐시 미스는 조회 한 번으로 합쳐짐")
+    void singleFlight() throws Exception {
+        FoodDetailCache cache = cache(60000, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        when(foodService.getFoodDetail(1L)).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return detail("불닭");
+        });
+
+        int requests = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<FoodDetailCache.Entry>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                results.add(pool.submit(() -> cache.get(1L)));
+            }
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100); // 나머지 요청이 진행 중인 조회에 붙을 시간
+            release.countDown();
+
+            FoodDetailCache.Entry first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<FoodDetailCache.Entry> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 값은 바로 응답하고 백그라운드에서 새로 조회")
+    void staleWhileRevalidate() throws Exception {
+        FoodDetailCache cache = cache(0, 60000);
+        when(foodService.getFoodDetail(1L)).thenReturn(detail("v1"), detail("v2"));
+
+        assertEquals("v1", cache.get(1L).detail().getName());
+        assertEquals("v1", cache.get(1L).detail().getName()); // stale 값으로 응답, 새로 고침 시작
+
+        verify(foodService, timeout(5000).times(2)).getFoodDetail(1L);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"v2".equals(cache.get(1L).detail().getName()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals("v2", cache.get(1L).detail().getName());
+    }
+
+    @Test
+    @DisplayName("음식 버전이 바뀌면 TTL 안이어도 다시 조회하고 새 버전을 돌려줌")
+    void reloadsOnVersionChange() {
+        FoodDetailCache cache = cache(60000, 0);
+        when(foodService.getFoodDetail(1L)).thenReturn(detail("v1"), detail("v2"));
+
+        FoodDetailCache.Entry before = cache.get(1L);
+        contentVersions.onHeartCountChanged(new HeartCountChangedEvent(1L));
+        FoodDetailCache.Entry after = cache.get(1L);
+
+        assertEquals("v2", after.detail().getName());
+        assertEquals(contentVersions.food(1L), after.version());
+        assertNotEquals(before.version(), after.version());
+    }
+
+    private FoodDetailCache cache(long ttlMillis, long staleMillis) {
+        FoodDetailCache cache = new FoodDetailCache(foodService, contentVersions, ttlMillis, staleMillis, 1);
+        caches.add(cache);
+        return cache;
+    }
+
+    private static FoodDetailDto detail(String name) {
+        return new FoodDetailDto(null, name, null, null, null, List.of(), List.of(), 0, null, null);
+    }
+}
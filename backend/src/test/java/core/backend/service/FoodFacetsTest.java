@@ -0,0 +1,80 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import core.backend.dto.FoodFacetsDto;
+import core.backend.dto.RangeFacetDto;
+import core.backend.event.FoodCatalogChangedEvent;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FoodFacetsTest {
+
+    private final FoodRepository foodRepository = mock(FoodRepository.class);
+    private final HeartCounter heartCounter = new HeartCounter(null, event -> { });
+    private final FoodFacets facets = new FoodFacets(foodRepository, heartCounter);
+
+    private static FoodCardDto card(long id, String category, int scoville, int heartCount) {
+        return new FoodCardDto(id, "음식" + id, "food " + id, scoville, category, "img.png", heartCount);
+    }
+
+    private static List<Integer> counts(List<RangeFacetDto> ranges) {
+        return ranges.stream().map(RangeFacetDto::getCount).toList();
+    }
+
+    private static List<String> categories(FoodFacetsDto facets) {
+        return facets.getCategories().stream().map(category -> category.getValue() + ":" + category.getCount()).toList();
+    }
+
+    @Test
+    @DisplayName("구간은 하한 이상, 다음 하한 미만")
+    void bucketOf() {
+        assertEquals(0, FoodFacets.bucketOf(FoodFacets.SCOVILLE_BOUNDS, 0));
+        assertEquals(0, FoodFacets.bucketOf(FoodFacets.SCOVILLE_BOUNDS, 999));
+        assertEquals(1, FoodFacets.bucketOf(FoodFacets.SCOVILLE_BOUNDS, 1_000));
+        assertEquals(FoodFacets.SCOVILLE_BOUNDS.length - 1, FoodFacets.bucketOf(FoodFacets.SCOVILLE_BOUNDS, 2_000_000));
+        assertEquals(0, FoodFacets.bucketOf(FoodFacets.HEART_BOUNDS, 0));
+        assertEquals(1, FoodFacets.bucketOf(FoodFacets.HEART_BOUNDS, 9));
+        assertEquals(0, FoodFacets.bucketOf(FoodFacets.HEART_BOUNDS, -1));
+    }
+
+    @Test
+    @DisplayName("음식이 수정되면 이전 카테고리/스코빌 구간에서 빼고 새 구간에 더함")
+    void catalogChangeMovesFood() {
+        when(foodRepository.findAllCards()).thenReturn(List.of(
+                card(1, "라면", 500, 0), card(2, "라면", 3_000, 0)));
+        facets.load();
+        when(foodRepository.findCardsByIdIn(List.of(1L))).thenReturn(List.of(card(1, "소스", 60_000, 0)));
+
+        facets.onFoodCatalogChanged(new FoodCatalogChangedEvent(List.of(1L)));
+
+        FoodFacetsDto current = facets.current();
+        assertEquals(2, current.getTotal());
+        assertEquals(List.of("라면:1", "소스:1"), categories(current));
+        assertEquals(List.of(0, 1, 0, 0, 1, 0, 0), counts(current.getScovilleBuckets()));
+        assertEquals(List.of(2, 0, 0, 0, 0, 0), counts(current.getHeartBuckets()));
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 구간 경계를 넘을 때만 좋아요 구간을 옮김")
+    void heartCountCrossesBucket() {
+        when(foodRepository.findAllCards()).thenReturn(List.of(card(1, "라면", 500, 9)));
+        facets.load();
+        heartCounter.reset(1L, 9);
+
+        facets.onHeartCountChanged(new HeartCountChangedEvent(1L));
+        FoodFacetsDto unchanged = facets.current();
+        heartCounter.reset(1L, 10);
+        facets.onHeartCountChanged(new HeartCountChangedEvent(1L));
+
+        assertEquals(List.of(0, 1, 0, 0, 0, 0), counts(unchanged.getHeartBuckets()));
+        assertEquals(List.of(0, 0, 1, 0, 0, 0), counts(facets.current().getHeartBuckets()));
+        assertEquals(List.of("라면:1"), categories(facets.current()));
+    }
+}
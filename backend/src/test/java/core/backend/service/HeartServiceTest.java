@@ -0,0 +1,107 @@
+package core.backend.service;
+
+import core.backend.domain.Food;
+import core.backend.domain.Member;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import core.backend.repository.HeartRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HeartServiceTest {
+
+    private final HeartRepository heartRepository = mock(HeartRepository.class);
+    private final FoodRepository foodRepository = mock(FoodRepository.class);
+    private final List<Object> events = new ArrayList<>();
+    private final HeartCounter heartCounter = new HeartCounter(foodRepository, events::add);
+    private final HeartService heartService = new HeartService(heartRepository, foodRepository, heartCounter);
+    private final HeartCountReconciler reconciler = new HeartCountReconciler(foodRepository, heartCounter);
+
+    private final Food food = Food.builder().id(1L).name("불닭").build();
+    private final Member member = Member.builder().build();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("좋아요 추가/취소는 DB와 카운터를 같이 증감")
+    void addAndDelete() {
+        when(heartRepository.deleteByFoodAndMember(food, member)).thenReturn(1);
+
+        heartService.addUser(member, food);
+        heartService.addUser(member, food);
+        heartService.deleteUser(member, food);
+
+        verify(foodRepository, times(2)).addHeartCount(1L, 1);
+        verify(foodRepository).addHeartCount(1L, -1);
+        assertEquals(1, heartCounter.get(1L));
+        assertEquals(3, events.stream().filter(HeartCountChangedEvent.class::isInstance).count());
+    }
+
+    @Test
+    @DisplayName("지운 좋아요가 없으면(중복/없는 취소) 감소하지 않음")
+    void deleteMissingHeart() {
+        heartCounter.reset(1L, 5);
+        when(heartRepository.deleteByFoodAndMember(food, member)).thenReturn(0);
+
+        heartService.deleteUser(member, food);
+
+        verify(foodRepository, never()).addHeartCount(anyLong(), anyInt());
+        assertEquals(5, heartCounter.get(1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에만 카운터 반영, 롤백이면 반영 안 함")
+    void appliesAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        heartService.addUser(member, food);
+        assertEquals(0, heartCounter.get(1L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, heartCounter.get(1L));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        heartService.addUser(member, food);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(1, heartCounter.get(1L));
+    }
+
+    @Test
+    @DisplayName("정합성 점검은 어긋난 음식만 다시 세고 카운터를 DB 값으로 맞춤")
+    void reconcile() {
+        heartCounter.reset(1L, 9);
+        heartCounter.reset(2L, 4);
+        when(foodRepository.findHeartCountMismatches()).thenReturn(List.of(1L));
+        when(foodRepository.findHeartCountsByIdIn(List.of(1L))).thenReturn(List.<Object[]>of(new Object[]{1L, 3}));
+
+        reconciler.reconcile();
+
+        verify(foodRepository).recountHeartCounts(List.of(1L));
+        assertEquals(3, heartCounter.get(1L));
+        assertEquals(4, heartCounter.get(2L));
+    }
+
+    @Test
+    @DisplayName("어긋난 음식이 없으면 다시 세지 않음")
+    void reconcileNothing() {
+        when(foodRepository.findHeartCountMismatches()).thenReturn(List.of());
+
+        reconciler.reconcile();
+
+        verify(foodRepository, never()).recountHeartCounts(any());
+    }
+}
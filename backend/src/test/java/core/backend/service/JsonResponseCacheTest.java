@@ -0,0 +1,45 @@
+package core.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonResponseCacheTest {
+
+    private final JsonResponseCache cache = new JsonResponseCache(new ObjectMapper(), 10, 60000);
+
+    @Test
+    @DisplayName("gzip 본문은 원본과 다른 강한 ETag로 응답")
+    void gzipHasOwnETag() {
+        Map<String, String> body = Map.of("text", "매운맛".repeat(200));
+        ResponseEntity<byte[]> identity = cache.respond("k", "\"v1\"", false, () -> body);
+        ResponseEntity<byte[]> gzip = cache.respond("k", "\"v1\"", true, () -> body);
+
+        assertEquals("\"v1\"", identity.getHeaders().getETag());
+        assertEquals("\"v1-gz\"", gzip.getHeaders().getETag());
+        assertEquals("gzip", gzip.getHeaders().getFirst("Content-Encoding"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match는 원본/gzip ETag 둘 다 같은 버전으로 인정")
+    void notModifiedAcceptsBothEncodings() {
+        assertEquals(HttpStatus.NOT_MODIFIED, cache.notModified("\"v1\"", "\"v1\"").getStatusCode());
+        assertEquals("\"v1-gz\"", cache.notModified("\"v0\", W/\"v1-gz\"", "\"v1\"").getHeaders().getETag());
+        assertNull(cache.notModified("\"v0-gz\"", "\"v1\""));
+        assertNull(cache.notModified(null, "\"v1\""));
+    }
+
+    @Test
+    @DisplayName("If-None-Match: *는 리소스가 있을 때만 304")
+    void wildcardRequiresExistingResource() {
+        assertEquals(HttpStatus.NOT_MODIFIED, cache.notModified("*", "\"v1\"", () -> true).getStatusCode());
+        assertNull(cache.notModified("*", "\"v1\"", () -> false));
+        assertNull(cache.notModified("\"v0\"", "\"v1\"", () -> { throw new AssertionError("*가 없으면 존재 확인 안 함"); }));
+    }
+}
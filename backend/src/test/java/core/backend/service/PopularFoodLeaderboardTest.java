@@ -0,0 +1,51 @@
+package core.backend.service;
+
+import core.backend.dto.FoodDto;
+import core.backend.event.HeartCountChangedEvent;
+import core.backend.repository.FoodRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PopularFoodLeaderboardTest {
+
+    private static final Long OTHER_FOOD = 99L; // 상위에 없는 음식(상세 ETag 버전 확인용)
+
+    private final FoodRepository foodRepository = mock(FoodRepository.class);
+    private final HeartCounter heartCounter = new HeartCounter(null, event -> { });
+    private final ContentVersions contentVersions = new ContentVersions();
+    private final PopularFoodLeaderboard leaderboard =
+            new PopularFoodLeaderboard(foodRepository, heartCounter, contentVersions);
+
+    private void hearts(long foodId, int count) {
+        heartCounter.reset(foodId, count);
+        leaderboard.onHeartCountChanged(new HeartCountChangedEvent(foodId));
+    }
+
+    @Test
+    @DisplayName("상위 음식의 좋아요 수만 바뀌면 상세 버전을 올리지 않고, 순위가 바뀌면 올림")
+    void detailHeadBumpsOnlyWhenFoodsChange() {
+        when(foodRepository.findAllRankingRows()).thenReturn(List.of(
+                new Object[]{1L, "신라면", "1.png", "라면", 10},
+                new Object[]{2L, "불닭볶음면", "2.png", "라면", 5},
+                new Object[]{3L, "열라면", "3.png", "라면", 1}));
+        leaderboard.load();
+        long loaded = contentVersions.food(OTHER_FOOD);
+
+        hearts(1L, 11);
+        hearts(2L, 6);
+
+        assertEquals(loaded, contentVersions.food(OTHER_FOOD));
+        assertEquals(List.of(1L, 2L), leaderboard.detailHead().stream().map(FoodDto::getFoodId).toList());
+        assertEquals(11, leaderboard.top(1, null).get(0).getHeartSize());
+
+        hearts(3L, 20);
+
+        assertTrue(contentVersions.food(OTHER_FOOD) > loaded);
+        assertEquals(List.of(3L, 1L), leaderboard.detailHead().stream().map(FoodDto::getFoodId).toList());
+    }
+}
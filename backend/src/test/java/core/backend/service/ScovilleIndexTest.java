@@ -0,0 +1,33 @@
+package core.backend.service;
+
+import core.backend.dto.FoodCardDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScovilleIndexTest {
+
+    ScovilleIndex index = new ScovilleIndex(List.of(
+            card(1L, 0), card(2L, 3750), card(3L, 4404), card(4L, 3750), card(5L, 100000)));
+
+    @Test
+    @DisplayName("범위 조회는 양 끝 포함, 스코빌 내림차순(같으면 id 내림차순)")
+    void range() {
+        assertEquals(List.of(3L, 4L, 2L), ids(index.range(3750, 5000)));
+        assertEquals(List.of(5L, 3L), ids(index.range(4000, null)));
+        assertEquals(List.of(4L, 2L, 1L), ids(index.range(null, 3750)));
+        assertEquals(List.of(5L, 3L, 4L, 2L, 1L), ids(index.range(null, null)));
+        assertTrue(index.range(5000, 6000).isEmpty());
+    }
+
+    private static FoodCardDto card(Long id, int scoville) {
+        return FoodCardDto.builder().id(id).scoville(scoville).heartCount(0).build();
+    }
+
+    private static List<Long> ids(List<FoodCardDto> cards) {
+        return cards.stream().map(FoodCardDto::getId).toList();
+    }
+}
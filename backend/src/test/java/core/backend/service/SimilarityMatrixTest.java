@@ -0,0 +1,28 @@
+package core.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimilarityMatrixTest {
+
+    long[] ids = {10, 20, 30, 40, 50};
+    String[] categories = {"라면", "라면", "떡볶이", "떡볶이", "라면"};
+    int[] scovilles = {3000, 4000, 2000, 100000, 500};
+    List<long[]> memberFoods = List.of(
+            new long[]{10, 20}, new long[]{10, 20, 30}, new long[]{30, 40}, new long[]{10, 30});
+
+    @Test
+    @DisplayName("좋아요를 같이 누른 음식이 먼저, 좋아요가 없어도 같은 카테고리 음식은 추천")
+    void similar() {
+        SimilarityMatrix matrix = SimilarityMatrix.build(ids, categories, scovilles, memberFoods, 3);
+
+        assertArrayEquals(new long[]{20, 30, 50}, matrix.similar(10, 3));
+        assertArrayEquals(new long[]{10, 20}, matrix.similar(50, 3)); // 좋아요 없음: 같은 카테고리만
+        assertArrayEquals(new long[]{40}, matrix.similar(30, 1));
+        assertEquals(0, matrix.similar(99, 3).length);
+    }
+}
@@ -0,0 +1,38 @@
+package core.backend.service;
+
+import core.backend.domain.SpicyScale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpicyScaleTableTest {
+
+    SpicyScaleTable table = SpicyScaleTable.of(List.of(
+            scale(1L, "할라피뇨", 5000),
+            scale(2L, "타바스코 소스", 3750),
+            scale(3L, "청양고추", 10000),
+            scale(4L, null, 7000)));
+
+    @Test
+    @DisplayName("바로 아래/위 기준 사이에 배치")
+    void describe() {
+        assertEquals("타바스코 소스 보다 덜 매운 편", table.describe(1000));
+        assertEquals("할라피뇨 수준의 매운맛", table.describe(5000));
+        assertEquals("할라피뇨 보다 맵고 청양고추 보다 덜 매운 편", table.describe(7000));
+        assertEquals("청양고추 보다 더 매운 편", table.describe(50000));
+        assertEquals("매운맛 정보 없음", table.describe(null));
+    }
+
+    @Test
+    @DisplayName("기준표가 비어 있으면 타바스코와 비교")
+    void emptyTable() {
+        assertEquals("타바스코 소스와 비슷한 편", SpicyScaleTable.EMPTY.describe(3000));
+    }
+
+    private static SpicyScale scale(Long id, String name, int scoville) {
+        return SpicyScale.builder().id(id).name(name).scoville(scoville).build();
+    }
+}